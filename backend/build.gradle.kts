@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.3"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "back"
@@ -28,11 +29,23 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("com.github.ben-manes.caffeine:caffeine")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	// 스키마는 src/main/resources/db/migration 의 Flyway 마이그레이션으로 관리
+	implementation("org.flywaydb:flyway-core")
+	implementation("org.flywaydb:flyway-database-postgresql")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 	compileOnly("org.projectlombok:lombok")
 	developmentOnly("org.springframework.boot:spring-boot-devtools")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.security:spring-security-test")
+	// PostgreSQL 실행 계획 테스트 (Docker 가 없으면 건너뜀)
+	testImplementation("org.testcontainers:junit-jupiter")
+	testImplementation("org.testcontainers:postgresql")
 	runtimeOnly("com.h2database:h2")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 	testCompileOnly("org.projectlombok:lombok")
@@ -48,8 +61,43 @@ dependencies {
 	runtimeOnly("org.postgresql:postgresql")
 	// Swagger
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
+
+	// JMH 마이크로벤치마크 (src/jmh/java, ./gradlew jmh)
+	jmh("org.openjdk.jmh:jmh-core:1.37")
+	jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+	jmh("org.springframework:spring-test")
+}
+
+jmh {
+	jmhVersion = "1.37"
+	warmupIterations = 3
+	iterations = 5
+	fork = 1
+	// 릴리스 간 회귀 비교를 위해 결과를 JSON 으로 남긴다
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+	// ./gradlew jmh -PjmhIncludes=OrderWrite 처럼 일부 벤치마크만 실행
+	providers.gradleProperty("jmhIncludes").orNull?.let { includes = listOf(it) }
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("perf")
+	}
+}
+
+// 성능/부하 측정 테스트 (@Tag("perf")) 는 기본 test 에서 제외하고 ./gradlew perfTest 로 따로 실행
+tasks.register<Test>("perfTest") {
+	description = "Runs performance and load tests tagged with 'perf'."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	maxHeapSize = "1g"
+	useJUnitPlatform {
+		includeTags("perf")
+	}
+}
@@ -0,0 +1,115 @@
+package com.back.teamcoffee.benchmark;
+
+import com.back.BackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// JMH 벤치마크용 스프링 컨텍스트 (내장 H2 + 운영 규모에 가까운 상품/주문 데이터)
+public final class BenchmarkEnvironment {
+    public static final int PRODUCT_COUNT = 200;
+    public static final int USER_COUNT = 1_000;
+    public static final int ORDER_COUNT = 50_000;
+    public static final int ITEMS_PER_ORDER = 3;
+    // 시드 주문 ID 는 JPA 시퀀스가 발급하는 범위와 겹치지 않도록 큰 값부터 사용
+    public static final long SEED_ID_OFFSET = 1_000_000_000L;
+    public static final String SECRET = "kBMd6AxKDe/PP2+cwF0fxkIMmXZPf+vNhnKCH+hlAko=";
+
+    private static final int INSERT_CHUNK = 5_000;
+
+    private BenchmarkEnvironment() {
+    }
+
+    public static ConfigurableApplicationContext start() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .run(
+                        "--spring.profiles.active=h2",
+                        "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=10",
+                        "--spring.h2.console.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+                        "--logging.level.org.hibernate.orm.jdbc.extract=WARN",
+                        "--logging.level.org.springframework.transaction.interceptor=WARN",
+                        "--jwt.secret=" + SECRET,
+                        "--app.admin.email=admin@email.com",
+                        "--app.admin.name=admin",
+                        "--app.admin.password=admin"
+                );
+        // 풀 커넥션이 auto-commit=false 이므로 트랜잭션 안에서 넣고 커밋
+        context.getBean(TransactionTemplate.class)
+                .executeWithoutResult(status -> seed(context.getBean(JdbcTemplate.class)));
+        return context;
+    }
+
+    public static String userEmail(int index) {
+        return "bench" + index + "@example.com";
+    }
+
+    public static long productId(int index) {
+        return index + 1L;
+    }
+
+    public static long seedOrderId(int index) {
+        return SEED_ID_OFFSET + index;
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new Object[]{"bench" + i, userEmail(i), "서울시 강남구 역삼동 " + i + "번지", "{noop}password", Timestamp.valueOf(now), "USER"});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO users (name, email, address, password, created_at, role)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, users);
+
+        List<Object[]> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            products.add(new Object[]{"원두 " + i, 10_000 + (i % 20) * 500, "벤치마크용 원두 " + i, 0,
+                    "https://images.unsplash.com/photo-1514432324607-a09d9b4aefdd?w=800&q=80", 10_000_000, Timestamp.valueOf(now)});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO product (product_name, price, description, order_count, product_image, stock, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, products);
+
+        long itemId = SEED_ID_OFFSET;
+        for (int start = 0; start < ORDER_COUNT; start += INSERT_CHUNK) {
+            List<Object[]> orders = new ArrayList<>();
+            List<Object[]> items = new ArrayList<>();
+            for (int i = start; i < Math.min(start + INSERT_CHUNK, ORDER_COUNT); i++) {
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(ORDER_COUNT - i));
+                int user = random.nextInt(USER_COUNT);
+                orders.add(new Object[]{seedOrderId(i), "", ITEMS_PER_ORDER, "원두 외 2개", 30_000 * ITEMS_PER_ORDER,
+                        "서울시 강남구 역삼동 " + user + "번지", createdAt, createdAt, false, "주문 접수", 0, userEmail(user)});
+                for (int j = 0; j < ITEMS_PER_ORDER; j++) {
+                    items.add(new Object[]{itemId++, 1, 30_000, 30_000, seedOrderId(i), productId(random.nextInt(PRODUCT_COUNT))});
+                }
+            }
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO "order" (order_id, user_id, order_count, product_name, total_price, address,
+                                         created_at, modified_at, delivery_status, order_status, product_id, email)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    """, orders);
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO order_item (order_item_id, order_count, product_price, total_price, order_id, product_id)
+                    VALUES (?, ?, ?, ?, ?, ?)
+                    """, items);
+        }
+    }
+}
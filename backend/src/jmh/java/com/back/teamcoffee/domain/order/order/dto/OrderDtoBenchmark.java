@@ -0,0 +1,56 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import com.back.teamcoffee.benchmark.BenchmarkEnvironment;
+import com.back.teamcoffee.domain.order.order.entity.Order;
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+// 주문 내역 한 페이지 (20건, 아이템 포함) 를 OrderDto 로 변환하는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderDtoBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    private ConfigurableApplicationContext context;
+    private List<Order> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkEnvironment.start();
+        OrderRepository orderRepository = context.getBean(OrderRepository.class);
+        List<Long> orderIds = LongStream.range(0, PAGE_SIZE)
+                .mapToObj(i -> BenchmarkEnvironment.seedOrderId((int) i))
+                .toList();
+        // 아이템과 상품까지 모두 로딩된 준영속 엔티티로 준비
+        page = context.getBean(TransactionTemplate.class)
+                .execute(status -> orderRepository.findAllWithItemsByOrderIdIn(orderIds));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void toDtoPage(Blackhole bh) {
+        for (Order order : page) {
+            bh.consume(new OrderDto(order));
+        }
+    }
+}
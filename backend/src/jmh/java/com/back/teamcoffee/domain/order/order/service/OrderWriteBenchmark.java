@@ -0,0 +1,57 @@
+package com.back.teamcoffee.domain.order.order.service;
+
+import com.back.teamcoffee.benchmark.BenchmarkEnvironment;
+import com.back.teamcoffee.domain.order.order.dto.OrderProductReq;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 주문 생성 (상품 일괄 조회 + 재고 조건부 차감 + 주문/아이템 batch insert) 한 건의 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderWriteBenchmark {
+    // 주문 한 건에 담긴 상품 종류 수
+    @Param({"1", "5"})
+    public int lines;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkEnvironment.start();
+        orderService = context.getBean(OrderService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object write() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<OrderProductReq> products = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            long productId = BenchmarkEnvironment.productId(random.nextInt(BenchmarkEnvironment.PRODUCT_COUNT));
+            products.add(new OrderProductReq(String.valueOf(productId), 1 + random.nextInt(3)));
+        }
+        String email = BenchmarkEnvironment.userEmail(random.nextInt(BenchmarkEnvironment.USER_COUNT));
+        return orderService.write(new OrderWriteReqBody(products, email, "서울시 강남구 역삼동 123-45"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.back.teamcoffee.domain.product.service;
+
+import com.back.teamcoffee.domain.product.dto.ProductMenuDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 상품 10만 개 색인에서 검색 한 번의 지연 분포 (SampleTime 결과의 p0.99 가 1ms 미만이어야 한다)
+// 이름은 수식어 + 메뉴 + 원산지 조합이라 "라떼" 같은 흔한 단어는 수만 건의 posting 을 훑는다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+    private static final String[] MODIFIERS = {"바닐라", "헤이즐넛", "카라멜", "시나몬", "디카페인", "아이스", "따뜻한", "시그니처", "스페셜", "하우스"};
+    private static final String[] MENUS = {"아메리카노", "카페라떼", "카푸치노", "카페모카", "마키아토", "플랫화이트", "에스프레소", "콜드브루", "밀크티", "말차라떼"};
+    private static final String[] ORIGINS = {"에티오피아", "콜롬비아", "케냐", "과테말라", "브라질", "코스타리카", "르완다", "인도네시아", "파나마", "온두라스"};
+    private static final String[] NOTES = {"초콜릿", "견과류", "시트러스", "베리", "꽃향", "캐러멜", "와인", "흑설탕"};
+
+    @Param({"100000"})
+    public int productCount;
+
+    // 접두어 / 입력 중 / 흔한 단어 / 두 단어 / 오타
+    @Param({"아메", "아멜", "라떼", "바닐라 라떼", "아메라카노"})
+    public String query;
+
+    private ProductSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProductMenuDto> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            String origin = ORIGINS[i / 100 % ORIGINS.length];
+            String name = MODIFIERS[i % MODIFIERS.length] + " " + MENUS[i / 10 % MENUS.length] + " " + origin + " " + i;
+            String description = origin + " 원두, " + NOTES[i % NOTES.length] + " 향";
+            products.add(new ProductMenuDto((long) i, name, 4000 + i % 20 * 100, description, "img.png"));
+        }
+        index = new ProductSearchIndex();
+        index.replaceAll(products);
+    }
+
+    @Benchmark
+    public List<ProductMenuDto> search() {
+        return index.search(query, 20);
+    }
+}
@@ -0,0 +1,27 @@
+package com.back.teamcoffee.global.rsdata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+// RsData 생성 비용 (resultCode 에서 상태 코드를 파싱)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RsDataBenchmark {
+    @Param({"200-OK", "404-NOT_FOUND", "OK"})
+    public String resultCode;
+
+    private final Object data = new Object();
+
+    @Benchmark
+    public RsData<Object> of() {
+        return RsData.of(resultCode, "조회 성공", data);
+    }
+}
@@ -0,0 +1,47 @@
+package com.back.teamcoffee.global.security;
+
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청 쿠키에서 토큰을 찾는 비용 (브라우저가 함께 보내는 다른 쿠키 수에 따라)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CookieUtilBenchmark {
+    @Param({"2", "10"})
+    public int cookieCount;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        Cookie[] cookies = new Cookie[cookieCount];
+        for (int i = 0; i < cookieCount - 2; i++) {
+            cookies[i] = new Cookie("_ga" + i, "GA1.1.123456789.1700000000");
+        }
+        cookies[cookieCount - 2] = new Cookie("RefreshToken", "refresh");
+        cookies[cookieCount - 1] = new Cookie("AccessToken", "access");
+        request = new MockHttpServletRequest("GET", "/orders/lists");
+        request.setCookies(cookies);
+    }
+
+    @Benchmark
+    public String resolveAccessToken() {
+        return CookieUtil.resolveToken(request, "AccessToken");
+    }
+
+    @Benchmark
+    public String resolveMissingToken() {
+        return CookieUtil.resolveToken(request, "Missing");
+    }
+}
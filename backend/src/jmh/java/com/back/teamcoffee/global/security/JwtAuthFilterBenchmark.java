@@ -0,0 +1,91 @@
+package com.back.teamcoffee.global.security;
+
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthFilter 한 번 통과 비용 측정
+// legacyDoubleParse: 기존 방식 (요청마다 파서 2번 생성 + 서명 2번 검증)
+// parseOnce: 공유 파서로 한 번만 파싱 (캐시 미스 경로)
+// filterCached: 필터 전체, 캐시 적중 경로
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthFilterBenchmark {
+    private static final String SECRET = "kBMd6AxKDe/PP2+cwF0fxkIMmXZPf+vNhnKCH+hlAko=";
+
+    // 추가 클레임 크기 (0: 현재 발급 토큰 약 150자, 512/2048: 프로필 등 클레임이 붙은 토큰)
+    @Param({"0", "512", "2048"})
+    public int extraClaimBytes;
+
+    private SecretKey key;
+    private JwtTokenProvider provider;
+    private JwtAuthFilter filter;
+    private String token;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setUp() {
+        byte[] decoded = Base64.getDecoder().decode(SECRET);
+        key = new SecretKeySpec(decoded, 0, decoded.length, "HmacSHA256");
+        provider = new JwtTokenProvider(SECRET, 600_000, 2_592_000_000L,
+                new TokenDenylist(Duration.ofDays(1), 1_000, 0.0001));
+        filter = new JwtAuthFilter(provider);
+
+        Date now = new Date();
+        token = Jwts.builder()
+                .setSubject("42")
+                .claim("email", "bench@example.com")
+                .claim("role", UserRole.USER.name())
+                .claim("extra", "x".repeat(extraClaimBytes))
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        request = new MockHttpServletRequest("GET", "/orders/lists");
+        request.setCookies(new Cookie("AccessToken", token));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void legacyDoubleParse(Blackhole bh) {
+        bh.consume(Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token));
+        bh.consume(Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody());
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole bh) {
+        bh.consume(provider.parse(token));
+    }
+
+    @Benchmark
+    public void filterCached(Blackhole bh) throws Exception {
+        filter.doFilter(request, response, chain);
+        bh.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,42 @@
+package com.back.teamcoffee.global.security;
+
+import com.back.teamcoffee.benchmark.BenchmarkEnvironment;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 시 토큰 발급과 캐시를 거치지 않는 토큰 파싱 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenBenchmark {
+    private static final AuthUser USER = new AuthUser(42, "bench@example.com", UserRole.USER);
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(BenchmarkEnvironment.SECRET, 600_000, 2_592_000_000L,
+                new TokenDenylist(Duration.ofDays(1), 1_000, 0.0001));
+        token = provider.createToken(USER);
+    }
+
+    @Benchmark
+    public String sign() {
+        return provider.createToken(USER);
+    }
+
+    @Benchmark
+    public Object parse() {
+        return provider.parse(token);
+    }
+}
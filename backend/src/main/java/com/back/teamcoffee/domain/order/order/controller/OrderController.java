@@ -1,18 +1,37 @@
 package com.back.teamcoffee.domain.order.order.controller;
 
+import com.back.teamcoffee.domain.order.order.dto.OrderBulkStatusResultDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderBulkStatusUpdateDto;
 import com.back.teamcoffee.domain.order.order.dto.OrderDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderPageDto;
 import com.back.teamcoffee.domain.order.order.dto.OrderStatusUpdateDto;
 import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.dto.ShippingExportFormat;
+import com.back.teamcoffee.domain.order.order.dto.ShippingWindow;
+import com.back.teamcoffee.domain.order.order.service.OrderEventService;
+import com.back.teamcoffee.domain.order.order.service.OrderExportService;
 import com.back.teamcoffee.domain.order.order.service.OrderService;
+import com.back.teamcoffee.global.exception.BadRequestException;
+import com.back.teamcoffee.global.exception.DataNotFoundException;
+import com.back.teamcoffee.global.idempotency.IdempotencyKeyStore;
 import com.back.teamcoffee.global.rsdata.RsData;
+import com.back.teamcoffee.global.security.AuthUser;
+import com.back.teamcoffee.global.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -21,6 +40,8 @@ import java.util.List;
 @Tag(name = "OrderController", description = "API 오더 컨트롤러")
 public class OrderController {
   private final OrderService orderService;
+  private final OrderExportService orderExportService;
+  private final OrderEventService orderEventService;
 
   // 요청 예시
   //{
@@ -34,25 +55,54 @@ public class OrderController {
 
   // 주문 생성
   @PostMapping("/write")
-  @Transactional
   @Operation(summary = "주문 생성")
   public ResponseEntity<RsData<OrderDto>> orderWrite(@Valid @RequestBody OrderWriteReqBody orderWriteReqBody) {
     RsData<OrderDto> order = orderService.write(orderWriteReqBody);
     return ResponseEntity.status(201).body(order);
   }
 
-  // 이메일로 주문내역 조회
+  // 주문 생성 (Idempotency-Key 헤더가 있으면 같은 키의 재시도에 첫 응답을 그대로 반환)
+  // 키는 요청자별로 따로 관리: 로그인 사용자는 토큰의 email, 비회원은 주문자 email
+  @PostMapping(value = "/write", headers = IdempotencyKeyStore.HEADER)
+  @Operation(summary = "주문 생성 (재시도 안전)")
+  public ResponseEntity<byte[]> orderWriteIdempotent(
+      @CurrentUser(required = false) AuthUser currentUser,
+      @RequestHeader(IdempotencyKeyStore.HEADER) String idempotencyKey,
+      @Valid @RequestBody OrderWriteReqBody orderWriteReqBody) {
+    String owner = currentUser != null ? currentUser.email() : orderWriteReqBody.userEmail();
+    IdempotencyKeyStore.Result result = orderService.writeOnce(owner, idempotencyKey, orderWriteReqBody);
+    return ResponseEntity.status(201)
+        .contentType(MediaType.APPLICATION_JSON)
+        .header(IdempotencyKeyStore.REPLAYED_HEADER, String.valueOf(result.replayed()))
+        .body(result.body());
+  }
+
+  // 이메일로 주문내역 조회 (최신순, 응답의 nextCursor 를 cursor 로 넘기면 다음 페이지)
+  // 로그인한 사용자는 email 을 생략하면 토큰의 email 로 조회 (users 조회 없음)
+  // email 을 지정하면 본인 email 이거나 관리자여야 한다 (비로그인 401, 다른 사람 email 403)
   @GetMapping("/lists")
-  @Transactional(readOnly = true)
   @Operation(summary = "이메일로 주문 내역 조회")
-  public ResponseEntity<RsData<List<OrderDto>>> getOrderListByEmail(@RequestParam String email) {
-    RsData<List<OrderDto>> orders = orderService.findByEmail(email);
+  public ResponseEntity<RsData<OrderPageDto>> getOrderListByEmail(
+      @CurrentUser(required = false) AuthUser currentUser,
+      @RequestParam(required = false) String email,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    String target = email != null ? email : currentUser != null ? currentUser.email() : null;
+    if (target == null || target.isBlank()) {
+      throw new BadRequestException("조회할 이메일이 필요합니다.");
+    }
+    if (currentUser == null) {
+      throw new AuthenticationCredentialsNotFoundException("로그인이 필요합니다.");
+    }
+    if (!currentUser.canAccess(target)) {
+      throw new AccessDeniedException("본인의 주문만 조회할 수 있습니다.");
+    }
+    RsData<OrderPageDto> orders = orderService.findByEmail(target, cursor, size);
     return ResponseEntity.ok(orders);
   }
 
   // 주문 내역 단건 조회
   @GetMapping("/lists/{orderId}")
-  @Transactional(readOnly = true)
   @Operation(summary = "주문 내역 단건 조회")
   public ResponseEntity<RsData<OrderDto>> getOrderById(@PathVariable long orderId) {
     RsData<OrderDto> order = orderService.findById(orderId);
@@ -60,18 +110,46 @@ public class OrderController {
   }
 
 
+  // 주문 상태 변경 구독 (SSE: 연결 직후 현재 상태, 이후 상태가 바뀔 때마다 status 이벤트)
+  // 주문 ID 는 순차 값이라 주문자 본인이나 관리자만 구독할 수 있다
+  @GetMapping(value = "/{orderId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "주문 상태 변경 구독")
+  public SseEmitter subscribeOrderEvents(@CurrentUser AuthUser currentUser, @PathVariable long orderId) {
+    OrderDto order = orderService.findById(orderId).data();
+    if (order == null) {
+      throw new DataNotFoundException("주문을 찾을 수 없습니다.");
+    }
+    if (!currentUser.canAccess(order.email())) {
+      throw new AccessDeniedException("본인의 주문만 구독할 수 있습니다.");
+    }
+    return orderEventService.subscribe(orderId, () -> orderService.findCurrentStatus(orderId).orElse(null));
+  }
+
+  // 전체 주문 상태 변경 구독 (관리자)
+  @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "전체 주문 상태 변경 구독")
+  public SseEmitter subscribeAllOrderEvents() {
+    return orderEventService.subscribeAll();
+  }
+
   // 주문 상태 변경 (예: 결제 완료, 배송 중 등)
   @PutMapping("/modify")
-  @Transactional
   @Operation(summary = "주문 상태 변경")
   public ResponseEntity<RsData<OrderDto>> modifyOrder(@RequestBody @Valid OrderStatusUpdateDto orderStatusUpdateDto) {
     RsData<OrderDto> updatedOrder = orderService.modifyOrderStatus(orderStatusUpdateDto);
     return ResponseEntity.ok(updatedOrder);
   }
 
+  // 주문 상태 일괄 변경 (예: 오후 2시 배송 배치 전체를 배송 중으로)
+  @PutMapping("/modify/bulk")
+  @Operation(summary = "주문 상태 일괄 변경")
+  public ResponseEntity<RsData<OrderBulkStatusResultDto>> modifyOrders(@RequestBody @Valid OrderBulkStatusUpdateDto orderBulkStatusUpdateDto) {
+    RsData<OrderBulkStatusResultDto> result = orderService.modifyOrderStatuses(orderBulkStatusUpdateDto);
+    return ResponseEntity.ok(result);
+  }
+
   // 주문 취소
   @DeleteMapping("/delete/{orderId}")
-  @Transactional
   @Operation(summary = "주문 취소")
   public ResponseEntity<RsData<OrderDto>> deleteOrder(@PathVariable long orderId) {
     RsData<OrderDto> deletedOrder = orderService.deleteOrder(orderId);
@@ -80,12 +158,24 @@ public class OrderController {
 
   // 전날 2시 ~ 오늘 오후 2시 사이에 주문된 내역 조회
   @GetMapping("/lists/today")
-  @Transactional(readOnly = true)
   @Operation(summary = "오늘 주문 내역 조회")
   public ResponseEntity<RsData<List<OrderDto>>> getTodayOrders() {
     RsData<List<OrderDto>> todayOrders = orderService.findTodayOrders();
     return ResponseEntity.ok(todayOrders);
   }
 
-
-}
\ No newline at end of file
+  // 배송 배치(전날 2시 ~ 오늘 오후 2시) 내보내기. groupByAddress=true 면 같은 주소끼리 연속되도록 정렬
+  @GetMapping("/lists/today/export")
+  @Operation(summary = "오늘 배송 배치 내보내기 (NDJSON / CSV)")
+  public void exportTodayOrders(
+      @RequestParam(defaultValue = "ndjson") String format,
+      @RequestParam(defaultValue = "false") boolean groupByAddress,
+      HttpServletResponse response) throws IOException {
+    ShippingExportFormat exportFormat = ShippingExportFormat.from(format);
+    response.setContentType(exportFormat.getContentType());
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename=\"shipping-" + ShippingWindow.today().to().toLocalDate() + "." + exportFormat.getExtension() + "\"");
+    orderExportService.exportTodayShipping(exportFormat, groupByAddress, response.getOutputStream());
+  }
+}
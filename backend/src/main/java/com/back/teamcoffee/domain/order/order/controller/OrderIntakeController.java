@@ -0,0 +1,39 @@
+package com.back.teamcoffee.domain.order.order.controller;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderIntakeDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.service.OrderIntakeService;
+import com.back.teamcoffee.global.rsdata.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/orders/intake")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.order.intake.enabled", havingValue = "true")
+@Tag(name = "OrderIntakeController", description = "API 주문 접수 큐 컨트롤러")
+public class OrderIntakeController {
+  private final OrderIntakeService orderIntakeService;
+
+  // 주문 접수 (저장은 비동기, 응답의 intakeId 로 결과 조회)
+  @PostMapping
+  @Operation(summary = "주문 접수")
+  public ResponseEntity<RsData<OrderIntakeDto>> intake(@Valid @RequestBody OrderWriteReqBody orderWriteReqBody) {
+    RsData<OrderIntakeDto> accepted = orderIntakeService.enqueue(orderWriteReqBody);
+    return ResponseEntity.accepted().body(accepted);
+  }
+
+  // 접수 결과 조회 (대기 중 202, 저장 완료 201, 재고 부족 등은 해당 오류 코드)
+  @GetMapping("/{intakeId}")
+  @Operation(summary = "주문 접수 결과 조회")
+  public ResponseEntity<RsData<OrderDto>> status(@PathVariable String intakeId) {
+    RsData<OrderDto> result = orderIntakeService.status(intakeId);
+    return ResponseEntity.status(result.statusCode()).body(result);
+  }
+}
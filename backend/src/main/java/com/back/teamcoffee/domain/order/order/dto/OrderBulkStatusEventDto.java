@@ -0,0 +1,13 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 주문 상태 일괄 변경 이벤트 (관리자 구독자에게는 한 건으로, 주문별 구독자에게는 OrderStatusEventDto 로 전달)
+public record OrderBulkStatusEventDto(
+    List<Long> orderIds,
+    String orderStatus,
+    boolean deliveryStatus,
+    LocalDateTime modifiedDate
+) {
+}
@@ -0,0 +1,11 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import java.util.List;
+
+// 일괄 변경 결과: 변경된 주문 수와 ID, ID 목록으로 요청했을 때 바뀌지 않은 주문 ID (없는 주문이거나 이미 목표 상태)
+public record OrderBulkStatusResultDto(
+    int updatedCount,
+    List<Long> orderIds,
+    List<Long> skippedOrderIds
+) {
+}
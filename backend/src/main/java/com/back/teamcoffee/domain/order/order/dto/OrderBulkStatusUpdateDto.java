@@ -0,0 +1,21 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 주문 상태 일괄 변경 요청: orderIds 를 주거나, 없으면 생성 시각 구간 from ~ to 의 주문 전체
+public record OrderBulkStatusUpdateDto(
+    @Size(max = 10000, message = "한 번에 변경할 수 있는 주문은 10000건까지입니다.")
+    List<Long> orderIds,
+
+    LocalDateTime from,
+
+    LocalDateTime to,
+
+    @NotBlank(message = "주문 상태는 필수입니다.")
+    String orderStatus
+) {
+}
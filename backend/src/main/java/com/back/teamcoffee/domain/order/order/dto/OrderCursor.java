@@ -0,0 +1,36 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import com.back.teamcoffee.domain.order.order.entity.Order;
+import com.back.teamcoffee.global.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 주문 내역 keyset 페이지네이션 커서 (createdAt, orderId)
+public record OrderCursor(
+    LocalDateTime createdAt,
+    long orderId
+) {
+  private static final String DELIMITER = "_";
+
+  public static OrderCursor of(Order order) {
+    return new OrderCursor(order.getCreatedAt(), order.getOrderId());
+  }
+
+  public String encode() {
+    String raw = createdAt + DELIMITER + orderId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static OrderCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(DELIMITER, 2);
+      return new OrderCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+    } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+      throw new BadRequestException("잘못된 커서입니다.");
+    }
+  }
+}
@@ -0,0 +1,6 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+// 접수 큐에 들어간 주문의 임시 ID (GET /orders/intake/{intakeId} 로 처리 결과 조회)
+public record OrderIntakeDto(
+    String intakeId
+) {}
@@ -0,0 +1,9 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import java.util.List;
+
+public record OrderPageDto(
+    List<OrderDto> orders,
+    // 마지막 페이지면 null
+    String nextCursor
+) {}
@@ -1,9 +1,11 @@
 package com.back.teamcoffee.domain.order.order.dto;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 public record OrderProductReq(
     @NotBlank
     String productId,
+    @Min(value = 1, message = "주문 수량은 1 이상이어야 합니다.")
     int productCount
 ) {}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import java.time.LocalDateTime;
+
+// 주문 상태 변경 이벤트 (커밋 후 SSE 구독자에게 전달, modifiedDate 가 더 늦은 쪽이 최신 상태)
+public record OrderStatusEventDto(
+    long orderId,
+    String orderStatus,
+    boolean deliveryStatus,
+    LocalDateTime modifiedDate
+) {
+  public static OrderStatusEventDto from(OrderDto orderDto) {
+    return new OrderStatusEventDto(orderDto.orderId(), orderDto.orderStatus(), orderDto.deliveryStatus(), orderDto.modifiedDate());
+  }
+}
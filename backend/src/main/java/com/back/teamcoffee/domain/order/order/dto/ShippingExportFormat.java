@@ -0,0 +1,24 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import com.back.teamcoffee.global.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ShippingExportFormat {
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv", "csv");
+
+  private final String contentType;
+  private final String extension;
+
+  public static ShippingExportFormat from(String format) {
+    for (ShippingExportFormat value : values()) {
+      if (value.extension.equalsIgnoreCase(format)) {
+        return value;
+      }
+    }
+    throw new BadRequestException("지원하지 않는 내보내기 형식입니다: " + format);
+  }
+}
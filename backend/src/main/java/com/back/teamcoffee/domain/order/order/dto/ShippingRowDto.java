@@ -0,0 +1,15 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import java.time.LocalDateTime;
+
+// 배송 배치 내보내기 한 줄 (주문 아이템 단위)
+public record ShippingRowDto(
+    long orderId,
+    String email,
+    String address,
+    LocalDateTime createdAt,
+    String orderStatus,
+    String productName,
+    int quantity,
+    int totalPrice
+) {}
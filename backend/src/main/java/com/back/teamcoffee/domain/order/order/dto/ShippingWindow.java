@@ -0,0 +1,18 @@
+package com.back.teamcoffee.domain.order.order.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// 배송 배치 구간: 전날 오후 2시 ~ 오늘 오후 2시 (KST)
+public record ShippingWindow(
+    LocalDateTime from,
+    LocalDateTime to
+) {
+  private static final ZoneId ZONE_KST = ZoneId.of("Asia/Seoul");
+
+  public static ShippingWindow today() {
+    LocalDateTime todayAt2pm = LocalDate.now(ZONE_KST).atTime(14, 0);
+    return new ShippingWindow(todayAt2pm.minusDays(1), todayAt2pm);
+  }
+}
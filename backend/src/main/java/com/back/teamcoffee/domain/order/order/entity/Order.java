@@ -25,8 +25,10 @@ import static jakarta.persistence.FetchType.LAZY;
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class Order {
+  // IDENTITY 는 JDBC batch insert 를 막으므로 pooled 시퀀스 사용
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq_generator")
+  @SequenceGenerator(name = "order_seq_generator", sequenceName = "order_seq", allocationSize = 50)
   private Long orderId;
 
   @Column(length = 100, nullable = false)
@@ -87,7 +89,12 @@ public class Order {
 
   public void modify(String orderStatus) {
     this.orderStatus = orderStatus.isBlank() ? this.orderStatus : orderStatus;
-    this.deliveryStatus = this.orderStatus.equals("배송 완료");
+    this.deliveryStatus = isDelivered(this.orderStatus);
+  }
+
+  // 배송 완료 상태면 deliveryStatus 도 true (일괄 변경 UPDATE 에서도 같은 기준 사용)
+  public static boolean isDelivered(String orderStatus) {
+    return "배송 완료".equals(orderStatus);
   }
 
 
@@ -1,26 +1,110 @@
 package com.back.teamcoffee.domain.order.order.repository;
 
+import com.back.teamcoffee.domain.order.order.dto.ShippingRowDto;
 import com.back.teamcoffee.domain.order.order.entity.Order;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
   List<Order> findByEmail(String email);
   
-  @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.email = :email")
-  List<Order> findByEmailWithItems(@Param("email") String email);
+  // 주문 내역 첫 페이지 (최신순). fetch join 과 페이징은 함께 쓸 수 없으므로 아이템은 findAllWithItemsByOrderIdIn 으로 따로 로딩
+  @Query("SELECT o FROM Order o WHERE o.email = :email ORDER BY o.createdAt DESC, o.orderId DESC")
+  List<Order> findPageByEmail(@Param("email") String email, Pageable pageable);
+
+  // 커서 (createdAt, orderId) 다음 페이지
+  @Query("""
+      SELECT o FROM Order o
+      WHERE o.email = :email
+        AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId))
+      ORDER BY o.createdAt DESC, o.orderId DESC
+      """)
+  List<Order> findPageByEmailAfter(@Param("email") String email, @Param("createdAt") LocalDateTime createdAt, @Param("orderId") long orderId, Pageable pageable);
+
+  @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product WHERE o.orderId IN :orderIds")
+  List<Order> findAllWithItemsByOrderIdIn(@Param("orderIds") Collection<Long> orderIds);
   
-  @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.orderId = :orderId")
+  @Query("SELECT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product WHERE o.orderId = :orderId")
   Optional<Order> findByIdWithItems(@Param("orderId") Long orderId);
 
   List<Order> findByCreatedAtBetween(LocalDateTime createdAtAfter, LocalDateTime createdAtBefore);
+
+  long countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(LocalDateTime from, LocalDateTime to);
   
-  @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.createdAt BETWEEN :createdAtAfter AND :createdAtBefore")
+  @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product WHERE o.createdAt BETWEEN :createdAtAfter AND :createdAtBefore")
   List<Order> findByCreatedAtBetweenWithItems(@Param("createdAtAfter") LocalDateTime createdAtAfter, @Param("createdAtBefore") LocalDateTime createdAtBefore);
+
+  // 배송 배치 내보내기: 엔티티 대신 DTO 를 forward-only 커서로 스트리밍해 영속성 컨텍스트와 힙이 커지지 않게 한다
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("""
+      SELECT new com.back.teamcoffee.domain.order.order.dto.ShippingRowDto(
+          o.orderId, o.email, o.address, o.createdAt, o.orderStatus, p.productName, oi.orderCount, oi.totalPrice)
+      FROM OrderItem oi JOIN oi.order o JOIN oi.product p
+      WHERE o.createdAt BETWEEN :createdAtAfter AND :createdAtBefore
+      ORDER BY o.orderId, oi.orderItemId
+      """)
+  Stream<ShippingRowDto> streamShippingRows(@Param("createdAtAfter") LocalDateTime createdAtAfter, @Param("createdAtBefore") LocalDateTime createdAtBefore);
+
+  // 택배 기사용: 같은 주소의 주문이 연속되도록 주소순 정렬
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+  @Query("""
+      SELECT new com.back.teamcoffee.domain.order.order.dto.ShippingRowDto(
+          o.orderId, o.email, o.address, o.createdAt, o.orderStatus, p.productName, oi.orderCount, oi.totalPrice)
+      FROM OrderItem oi JOIN oi.order o JOIN oi.product p
+      WHERE o.createdAt BETWEEN :createdAtAfter AND :createdAtBefore
+      ORDER BY o.address, o.orderId, oi.orderItemId
+      """)
+  Stream<ShippingRowDto> streamShippingRowsByAddress(@Param("createdAtAfter") LocalDateTime createdAtAfter, @Param("createdAtBefore") LocalDateTime createdAtBefore);
+
+  // 상태 일괄 변경 UPDATE (ID 한 묶음씩, 이미 목표 상태인 주문 제외)
+  // 벌크 UPDATE 에는 @LastModifiedDate 가 적용되지 않으므로 modifiedAt 도 직접 설정 (변경된 행을 다시 찾는 표시로도 쓴다)
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      UPDATE Order o
+      SET o.orderStatus = :orderStatus, o.deliveryStatus = :deliveryStatus, o.modifiedAt = :modifiedAt
+      WHERE o.orderId IN :orderIds AND (o.orderStatus IS NULL OR o.orderStatus <> :orderStatus)
+      """)
+  int modifyStatusByOrderIdIn(@Param("orderIds") Collection<Long> orderIds, @Param("orderStatus") String orderStatus,
+                              @Param("deliveryStatus") boolean deliveryStatus, @Param("modifiedAt") LocalDateTime modifiedAt);
+
+  // 생성 시각 구간의 주문 전체를 UPDATE 한 번으로 변경
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+      UPDATE Order o
+      SET o.orderStatus = :orderStatus, o.deliveryStatus = :deliveryStatus, o.modifiedAt = :modifiedAt
+      WHERE o.createdAt BETWEEN :createdAtAfter AND :createdAtBefore AND (o.orderStatus IS NULL OR o.orderStatus <> :orderStatus)
+      """)
+  int modifyStatusByCreatedAtBetween(@Param("createdAtAfter") LocalDateTime createdAtAfter, @Param("createdAtBefore") LocalDateTime createdAtBefore,
+                                     @Param("orderStatus") String orderStatus, @Param("deliveryStatus") boolean deliveryStatus,
+                                     @Param("modifiedAt") LocalDateTime modifiedAt);
+
+  // 방금 일괄 변경한 주문 ID (같은 트랜잭션에서 UPDATE 가 남긴 modifiedAt 으로 찾는다, 행은 UPDATE 로 이미 잠겨 있음)
+  @Query("""
+      SELECT o.orderId FROM Order o
+      WHERE o.orderId IN :orderIds AND o.orderStatus = :orderStatus AND o.modifiedAt = :modifiedAt
+      ORDER BY o.orderId
+      """)
+  List<Long> findIdsModifiedByOrderIdIn(@Param("orderIds") Collection<Long> orderIds, @Param("orderStatus") String orderStatus,
+                                        @Param("modifiedAt") LocalDateTime modifiedAt);
+
+  @Query("""
+      SELECT o.orderId FROM Order o
+      WHERE o.createdAt BETWEEN :createdAtAfter AND :createdAtBefore AND o.orderStatus = :orderStatus AND o.modifiedAt = :modifiedAt
+      ORDER BY o.orderId
+      """)
+  List<Long> findIdsModifiedByCreatedAtBetween(@Param("createdAtAfter") LocalDateTime createdAtAfter, @Param("createdAtBefore") LocalDateTime createdAtBefore,
+                                               @Param("orderStatus") String orderStatus, @Param("modifiedAt") LocalDateTime modifiedAt);
 }
@@ -0,0 +1,213 @@
+package com.back.teamcoffee.domain.order.order.service;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderBulkStatusEventDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderStatusEventDto;
+import com.back.teamcoffee.global.exception.SubscriberLimitException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// 주문 상태 변경을 SSE 로 밀어주는 프로세스 내 이벤트 버스
+// OrderService 가 발행한 OrderStatusEventDto 를 커밋 후 받아 주문별 구독자와 관리자 구독자에게 전달한다
+// 연결마다 buffer-size 개까지만 쌓고, 못 따라오는 연결은 끊는다 (클라이언트는 재연결해 현재 상태부터 다시 받음)
+@Slf4j
+@Service
+public class OrderEventService implements MeterBinder, DisposableBean {
+  private static final String EVENT_NAME = "status";
+  private static final String BULK_EVENT_NAME = "bulk-status";
+
+  private final Map<Long, Set<Subscriber>> orderSubscribers = new ConcurrentHashMap<>();
+  private final Set<Subscriber> adminSubscribers = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private final AtomicLong eventId = new AtomicLong();
+  // 전송은 연결별로 가상 스레드에서 (느린 연결이 커밋 스레드나 다른 연결을 막지 않게)
+  private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+  private final ScheduledExecutorService heartbeat;
+
+  private final long timeoutMillis;
+  private final int bufferSize;
+  private final int maxSubscribers;
+
+  public OrderEventService(@Value("${app.order.events.timeout:30m}") Duration timeout,
+                           @Value("${app.order.events.heartbeat:15s}") Duration heartbeatInterval,
+                           @Value("${app.order.events.buffer-size:16}") int bufferSize,
+                           @Value("${app.order.events.max-subscribers:10000}") int maxSubscribers) {
+    this.timeoutMillis = timeout.toMillis();
+    this.bufferSize = bufferSize;
+    this.maxSubscribers = maxSubscribers;
+    // 주기적으로 주석 한 줄을 보내 프록시 idle 타임아웃을 막고 끊긴 연결을 정리
+    this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("order-events-heartbeat").daemon().factory());
+    this.heartbeat.scheduleAtFixedRate(this::sendHeartbeat,
+        heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  // 주문 하나의 상태 변경 구독: 구독자를 먼저 등록한 뒤 current 로 읽은 현재 상태를 보낸다
+  // (현재 상태를 먼저 읽으면 등록 전에 커밋된 변경을 놓친다, 순서가 뒤바뀌어 도착해도 modifiedDate 로 최신 상태를 가린다)
+  public SseEmitter subscribe(long orderId, Supplier<OrderStatusEventDto> current) {
+    // 주문별 구독자 집합은 compute 안에서만 추가/삭제해 비어서 지워지는 집합에 추가되지 않게 한다
+    Subscriber subscriber = register(
+        added -> orderSubscribers.compute(orderId, (id, subscribers) -> {
+          Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+          target.add(added);
+          return target;
+        }),
+        removed -> orderSubscribers.computeIfPresent(orderId, (id, subscribers) -> {
+          subscribers.remove(removed);
+          return subscribers.isEmpty() ? null : subscribers;
+        }));
+    OrderStatusEventDto state = current.get();
+    if (state != null) {
+      subscriber.offer(event(state));
+    }
+    return subscriber.emitter;
+  }
+
+  // 전체 주문 상태 변경 구독 (관리자 대시보드)
+  public SseEmitter subscribeAll() {
+    return register(adminSubscribers::add, adminSubscribers::remove).emitter;
+  }
+
+  @TransactionalEventListener
+  public void onStatusChanged(OrderStatusEventDto event) {
+    SseEmitter.SseEventBuilder sse = event(event);
+    Set<Subscriber> subscribers = orderSubscribers.get(event.orderId());
+    if (subscribers != null) {
+      subscribers.forEach(subscriber -> subscriber.offer(sse));
+    }
+    adminSubscribers.forEach(subscriber -> subscriber.offer(sse));
+  }
+
+  // 일괄 변경은 관리자 구독자에게 bulk-status 한 건으로 보내 버퍼가 넘치지 않게 하고,
+  // 주문별 구독자에게는 해당 주문의 status 이벤트로 보낸다
+  @TransactionalEventListener
+  public void onBulkStatusChanged(OrderBulkStatusEventDto event) {
+    for (Long orderId : event.orderIds()) {
+      Set<Subscriber> subscribers = orderSubscribers.get(orderId);
+      if (subscribers != null) {
+        SseEmitter.SseEventBuilder sse = event(new OrderStatusEventDto(
+            orderId, event.orderStatus(), event.deliveryStatus(), event.modifiedDate()));
+        subscribers.forEach(subscriber -> subscriber.offer(sse));
+      }
+    }
+    SseEmitter.SseEventBuilder bulk = SseEmitter.event()
+        .id(String.valueOf(eventId.incrementAndGet()))
+        .name(BULK_EVENT_NAME)
+        .data(event, MediaType.APPLICATION_JSON);
+    adminSubscribers.forEach(subscriber -> subscriber.offer(bulk));
+  }
+
+  private Subscriber register(Consumer<Subscriber> add, Consumer<Subscriber> remove) {
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      throw new SubscriberLimitException();
+    }
+    Subscriber subscriber = new Subscriber(new SseEmitter(timeoutMillis));
+    add.accept(subscriber);
+
+    AtomicBoolean removed = new AtomicBoolean();
+    Runnable cleanup = () -> {
+      if (removed.compareAndSet(false, true)) {
+        remove.accept(subscriber);
+        subscriberCount.decrementAndGet();
+      }
+    };
+    subscriber.emitter.onCompletion(cleanup);
+    subscriber.emitter.onTimeout(cleanup);
+    subscriber.emitter.onError(e -> cleanup.run());
+    return subscriber;
+  }
+
+  private SseEmitter.SseEventBuilder event(OrderStatusEventDto event) {
+    return SseEmitter.event()
+        .id(String.valueOf(eventId.incrementAndGet()))
+        .name(EVENT_NAME)
+        .data(event, MediaType.APPLICATION_JSON);
+  }
+
+  private void sendHeartbeat() {
+    SseEmitter.SseEventBuilder ping = SseEmitter.event().comment("heartbeat");
+    orderSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.offer(ping)));
+    adminSubscribers.forEach(subscriber -> subscriber.offer(ping));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("order.events.subscribers", subscriberCount, AtomicInteger::get)
+        .description("주문 상태 SSE 구독 연결 수")
+        .register(registry);
+  }
+
+  @Override
+  public void destroy() {
+    heartbeat.shutdownNow();
+    adminSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+    orderSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    sender.shutdown();
+  }
+
+  // 연결 하나: 보낼 이벤트를 bufferSize 개까지 쌓고 한 번에 한 스레드만 전송
+  private final class Subscriber {
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(bufferSize);
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private Subscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    void offer(SseEmitter.SseEventBuilder event) {
+      if (!pending.offer(event)) {
+        log.debug("SSE 전송 버퍼 초과로 연결 종료");
+        emitter.complete();
+        return;
+      }
+      if (draining.compareAndSet(false, true)) {
+        sender.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      try {
+        SseEmitter.SseEventBuilder event;
+        while ((event = pending.poll()) != null) {
+          emitter.send(event);
+        }
+      } catch (IOException | IllegalStateException e) {
+        // 끊긴 연결 (onError/onCompletion 에서 정리)
+        emitter.completeWithError(e);
+        return;
+      } finally {
+        draining.set(false);
+      }
+      // 전송을 마친 사이 들어온 이벤트가 있으면 이어서 보낸다
+      if (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+        sender.execute(this::drain);
+      }
+    }
+  }
+}
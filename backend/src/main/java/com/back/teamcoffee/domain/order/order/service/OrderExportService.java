@@ -0,0 +1,99 @@
+package com.back.teamcoffee.domain.order.order.service;
+
+import com.back.teamcoffee.domain.order.order.dto.ShippingExportFormat;
+import com.back.teamcoffee.domain.order.order.dto.ShippingRowDto;
+import com.back.teamcoffee.domain.order.order.dto.ShippingWindow;
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.global.metrics.MetricsConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+@RequiredArgsConstructor
+public class OrderExportService {
+  private static final String CSV_HEADER = "orderId,email,address,createdAt,orderStatus,productName,quantity,totalPrice";
+  // 이 행 수마다 응답으로 밀어내 클라이언트가 바로 받기 시작하도록 함
+  private static final int FLUSH_INTERVAL = 1000;
+
+  private final OrderRepository orderRepository;
+  private final ObjectMapper objectMapper;
+
+  // 배송 배치를 한 행씩 읽어 바로 쓰므로 배치 크기와 무관하게 메모리 사용량이 일정하다
+  // 스트림을 다 읽을 때까지 커서가 열려 있어야 하므로 트랜잭션 안에서 응답까지 쓴다
+  @Transactional(readOnly = true)
+  public long exportTodayShipping(ShippingExportFormat format, boolean groupByAddress, OutputStream out) throws IOException {
+    ShippingWindow window = ShippingWindow.today();
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    ObjectWriter jsonWriter = objectMapper.writerFor(ShippingRowDto.class);
+
+    if (format == ShippingExportFormat.CSV) {
+      writer.write(CSV_HEADER);
+      writer.write('\n');
+    }
+
+    long count = 0;
+    try (Stream<ShippingRowDto> rows = groupByAddress
+        ? orderRepository.streamShippingRowsByAddress(window.from(), window.to())
+        : orderRepository.streamShippingRows(window.from(), window.to())) {
+      Iterator<ShippingRowDto> iterator = rows.iterator();
+      while (iterator.hasNext()) {
+        ShippingRowDto row = iterator.next();
+        if (format == ShippingExportFormat.CSV) {
+          writeCsv(writer, row);
+        } else {
+          writer.write(jsonWriter.writeValueAsString(row));
+        }
+        writer.write('\n');
+
+        if (++count % FLUSH_INTERVAL == 0) {
+          writer.flush();
+        }
+      }
+    }
+
+    writer.flush();
+    return count;
+  }
+
+  private void writeCsv(Writer writer, ShippingRowDto row) throws IOException {
+    writer.write(String.valueOf(row.orderId()));
+    writer.write(',');
+    writer.write(csv(row.email()));
+    writer.write(',');
+    writer.write(csv(row.address()));
+    writer.write(',');
+    writer.write(String.valueOf(row.createdAt()));
+    writer.write(',');
+    writer.write(csv(row.orderStatus()));
+    writer.write(',');
+    writer.write(csv(row.productName()));
+    writer.write(',');
+    writer.write(String.valueOf(row.quantity()));
+    writer.write(',');
+    writer.write(String.valueOf(row.totalPrice()));
+  }
+
+  private static String csv(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+}
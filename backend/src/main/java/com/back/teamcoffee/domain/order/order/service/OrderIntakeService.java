@@ -0,0 +1,191 @@
+package com.back.teamcoffee.domain.order.order.service;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderIntakeDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.global.baseresponse.BaseResponse;
+import com.back.teamcoffee.global.exception.BadRequestException;
+import com.back.teamcoffee.global.exception.DataNotFoundException;
+import com.back.teamcoffee.global.exception.OrderIntakeFullException;
+import com.back.teamcoffee.global.rsdata.RsData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 주문 접수 모드 (app.order.intake.enabled=true)
+// 요청은 검증 후 bounded 큐에 넣고 임시 ID 로 바로 응답, 단일 writer 스레드가 큐에 쌓인 주문을
+// batch-size 건씩 꺼내 OrderService.writeBatch 로 한 트랜잭션에 저장한다 (커밋 비용을 여러 주문이 나눠 냄)
+// 처리 결과는 status-ttl 동안 보관되며 클라이언트는 intakeId 로 조회한다
+// writer 스레드는 SmartLifecycle 로 시작/종료 (웹 서버보다 먼저 시작하고, 요청이 멈춘 뒤에 남은 주문을 저장하고 끝낸다)
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.order.intake.enabled", havingValue = "true")
+public class OrderIntakeService implements MeterBinder, SmartLifecycle {
+  private static final RsData<OrderDto> PENDING = RsData.of("202-ACCEPTED", "주문 처리 대기 중", null);
+  private static final RsData<OrderDto> FAILED = RsData.of("500-INTERNAL-SERVER-ERROR", "서버 오류가 발생했습니다.", null);
+  // 큐가 비어 있을 때 종료 요청을 확인하는 주기
+  private static final long POLL_MILLIS = 500;
+  // 웹 서버 시작/종료(DEFAULT_PHASE - 2048)보다 안쪽 단계
+  private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+  private final OrderService orderService;
+  private final BlockingQueue<PendingOrder> queue;
+  private final int batchSize;
+  private final Cache<String, RsData<OrderDto>> results;
+
+  private volatile Thread writer;
+  private volatile boolean running;
+  private volatile DistributionSummary batchSizes;
+
+  public OrderIntakeService(OrderService orderService,
+                            @Value("${app.order.intake.queue-capacity:10000}") int queueCapacity,
+                            @Value("${app.order.intake.batch-size:100}") int batchSize,
+                            @Value("${app.order.intake.status-ttl:10m}") Duration statusTtl) {
+    this.orderService = orderService;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.results = Caffeine.newBuilder()
+        .maximumSize(100_000)
+        .expireAfterWrite(statusTtl)
+        .build();
+  }
+
+  public RsData<OrderIntakeDto> enqueue(OrderWriteReqBody orderWriteReqBody) {
+    // 상품 ID 형식은 접수 시점에 확인 (상품 존재/재고는 writer 가 확인)
+    try {
+      OrderService.productCounts(orderWriteReqBody);
+    } catch (NumberFormatException e) {
+      throw new BadRequestException("상품 ID 형식이 올바르지 않습니다.");
+    }
+
+    if (!running) {
+      throw new OrderIntakeFullException();
+    }
+    String intakeId = UUID.randomUUID().toString();
+    results.put(intakeId, PENDING);
+    if (!queue.offer(new PendingOrder(intakeId, orderWriteReqBody))) {
+      results.invalidate(intakeId);
+      throw new OrderIntakeFullException();
+    }
+    return RsData.of("202-ACCEPTED", "주문 접수 완료", new OrderIntakeDto(intakeId));
+  }
+
+  // 대기 중이면 202, 처리되었으면 주문 생성 결과(201 또는 실패 응답)
+  public RsData<OrderDto> status(String intakeId) {
+    RsData<OrderDto> result = results.getIfPresent(intakeId);
+    if (result == null) {
+      throw new DataNotFoundException("접수 내역을 찾을 수 없습니다.");
+    }
+    return result;
+  }
+
+  private void drain() {
+    List<PendingOrder> batch = new ArrayList<>(batchSize);
+    // 종료 요청 후에도 이미 접수한 주문은 모두 저장하고 끝낸다
+    while (running || !queue.isEmpty()) {
+      try {
+        PendingOrder first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        // 직전 배치를 커밋하는 동안 쌓인 주문을 한 번에 가져간다 (부하가 클수록 배치가 커짐)
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+        flush(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  private void flush(List<PendingOrder> batch) {
+    List<RsData<OrderDto>> written;
+    try {
+      written = orderService.writeBatch(batch.stream().map(PendingOrder::body).toList());
+    } catch (RuntimeException e) {
+      // 배치 트랜잭션은 통째로 롤백되었으므로 한 건씩 다시 저장해 원인이 된 주문만 실패시킨다
+      log.warn("주문 접수 배치 저장 실패, 한 건씩 재시도: size={}", batch.size(), e);
+      written = batch.stream()
+          .map(pending -> writeOne(pending.body()))
+          .toList();
+    }
+
+    for (int i = 0; i < batch.size(); i++) {
+      results.put(batch.get(i).intakeId(), written.get(i));
+    }
+    if (batchSizes != null) {
+      batchSizes.record(batch.size());
+    }
+    log.debug("주문 접수 배치 저장: size={}, queued={}", batch.size(), queue.size());
+  }
+
+  private RsData<OrderDto> writeOne(OrderWriteReqBody orderWriteReqBody) {
+    try {
+      return orderService.write(orderWriteReqBody);
+    } catch (BaseResponse e) {
+      return RsData.of(e.getResultCode(), e.getMessage(), null);
+    } catch (RuntimeException e) {
+      log.error("주문 접수 저장 실패: email={}", orderWriteReqBody.userEmail(), e);
+      return FAILED;
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("order.intake.queue.size", queue, BlockingQueue::size)
+        .description("저장을 기다리는 접수 주문 수")
+        .register(registry);
+    batchSizes = DistributionSummary.builder("order.intake.batch.size")
+        .description("트랜잭션 하나에 함께 저장한 주문 수")
+        .publishPercentiles(0.5, 0.99)
+        .register(registry);
+  }
+
+  @Override
+  public void start() {
+    running = true;
+    writer = Thread.ofPlatform().name("order-intake-writer").daemon().start(this::drain);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    try {
+      writer.join(Duration.ofSeconds(30));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  private record PendingOrder(String intakeId, OrderWriteReqBody body) {
+  }
+}
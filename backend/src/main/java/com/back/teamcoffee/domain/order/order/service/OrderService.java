@@ -1,120 +1,353 @@
 package com.back.teamcoffee.domain.order.order.service;
 
 
+import com.back.teamcoffee.domain.order.order.dto.OrderBulkStatusEventDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderBulkStatusResultDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderBulkStatusUpdateDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderCursor;
 import com.back.teamcoffee.domain.order.order.dto.OrderDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderPageDto;
 import com.back.teamcoffee.domain.order.order.dto.OrderProductReq;
+import com.back.teamcoffee.domain.order.order.dto.OrderStatusEventDto;
 import com.back.teamcoffee.domain.order.order.dto.OrderStatusUpdateDto;
 import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.dto.ShippingWindow;
 import com.back.teamcoffee.domain.order.order.entity.Order;
 import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
 import com.back.teamcoffee.domain.order.orderItem.entity.OrderItem;
-import com.back.teamcoffee.domain.order.orderItem.repository.OrderItemRepository;
 import com.back.teamcoffee.domain.product.entity.Product;
 import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.domain.product.service.ProductLeaderboardService;
+import com.back.teamcoffee.domain.sales.service.SalesOutboxService;
+import com.back.teamcoffee.global.baseresponse.BaseResponse;
+import com.back.teamcoffee.global.datasource.ReadYourWritesTracker;
+import com.back.teamcoffee.global.exception.BadRequestException;
 import com.back.teamcoffee.global.exception.DataNotFoundException;
+import com.back.teamcoffee.global.idempotency.IdempotencyKeyStore;
+import com.back.teamcoffee.global.exception.OutOfStockException;
+import com.back.teamcoffee.global.metrics.MetricsConfig;
 import com.back.teamcoffee.global.rsdata.RsData;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDate;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class OrderService {
+  public static final int MAX_PAGE_SIZE = 100;
+  // 상태 일괄 변경에서 UPDATE 한 번에 넣는 주문 ID 수
+  static final int BULK_STATUS_CHUNK_SIZE = 1000;
+
   private final OrderRepository orderRepository;
-  private final OrderItemRepository orderItemRepository;
   private final ProductRepository productRepository;
+  // 트랜잭션은 DB 작업 구간에만 열고, DTO 변환/로깅은 커넥션 반환 후에 한다
+  private final TransactionTemplate writeTx;
+  private final TransactionTemplate readTx;
+  // 주문 직후 본인 주문 조회는 복제 지연과 무관하게 쓰기 DB 에서 읽는다
+  private final ReadYourWritesTracker readYourWrites;
+  private final IdempotencyKeyStore idempotencyKeyStore;
+  private final ObjectMapper objectMapper;
+  // 상태 변경 이벤트는 커밋 후 OrderEventService 가 SSE 구독자에게 전달
+  private final ApplicationEventPublisher eventPublisher;
+  // 매출 증감분은 주문과 같은 트랜잭션에서 outbox 에 INSERT (집계 테이블은 SalesRollupService 가 갱신)
+  private final SalesOutboxService salesOutboxService;
+  // 인기 상품 순위는 커밋된 주문만 메모리에서 센다
+  private final ProductLeaderboardService productLeaderboard;
+
+  public OrderService(OrderRepository orderRepository, ProductRepository productRepository,
+                      PlatformTransactionManager transactionManager, ReadYourWritesTracker readYourWrites,
+                      IdempotencyKeyStore idempotencyKeyStore, ObjectMapper objectMapper,
+                      ApplicationEventPublisher eventPublisher, SalesOutboxService salesOutboxService,
+                      ProductLeaderboardService productLeaderboard) {
+    this.orderRepository = orderRepository;
+    this.productRepository = productRepository;
+    this.readYourWrites = readYourWrites;
+    this.idempotencyKeyStore = idempotencyKeyStore;
+    this.objectMapper = objectMapper;
+    this.eventPublisher = eventPublisher;
+    this.salesOutboxService = salesOutboxService;
+    this.productLeaderboard = productLeaderboard;
+    this.writeTx = new TransactionTemplate(transactionManager);
+    this.readTx = new TransactionTemplate(transactionManager);
+    this.readTx.setReadOnly(true);
+  }
 
   public RsData<OrderDto> write(OrderWriteReqBody orderWriteReqBody) {
-    List<OrderProductReq> orderProductReqs = orderWriteReqBody.products();
-
-
-    // Product TotalPrice, TotalCount 변수
-    AtomicInteger totalPrice = new AtomicInteger(0);
-    AtomicInteger totalCount = new AtomicInteger(0);
-
-    // ProductId로 상품 및 Total Price 계산 로직
-    List<Product> products = orderProductReqs.stream()
-        .map(req -> {
-          Long productId = Long.parseLong(req.productId());
-          Product product = productRepository.findById(productId)
-              .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
-          totalPrice.addAndGet(product.getPrice() * req.productCount());
-          totalCount.addAndGet(req.productCount());
-          return product;
-        })
+    Map<Long, Integer> productCounts = productCounts(orderWriteReqBody);
+
+    Order order = writeTx.execute(status -> reserveAndSave(orderWriteReqBody, productCounts));
+    return created(order);
+  }
+
+  // 커밋된 주문의 후처리 (본인 조회 쓰기 DB 고정 + 인기 상품 집계 + 로깅 + DTO 변환)
+  private RsData<OrderDto> created(Order order) {
+    readYourWrites.recordWrite(order.getEmail());
+    productLeaderboard.recordOrdered(order);
+
+    OrderDto dtoList = new OrderDto(order);
+    log.info("주문 생성: orderId={}, email={}, totalPrice={}, orderCount={}",
+        order.getOrderId(), order.getEmail(), order.getTotalPrice(), order.getOrderCount());
+    if (log.isDebugEnabled()) {
+      for (OrderItem orderItem : order.getOrderItems()) {
+        log.debug("주문 아이템: orderId={}, orderItemId={}, product={}, count={}, totalPrice={}",
+            order.getOrderId(), orderItem.getOrderItemId(), orderItem.getProduct().getProductName(),
+            orderItem.getOrderCount(), orderItem.getTotalPrice());
+      }
+    }
+
+    return RsData.of("201-CREATED", "주문 생성 성공", dtoList);
+  }
+
+  // ProductId별 주문 수량 (요청 순서 유지, 같은 상품이 여러 번 오면 합산)
+  static Map<Long, Integer> productCounts(OrderWriteReqBody orderWriteReqBody) {
+    Map<Long, Integer> productCounts = new LinkedHashMap<>();
+    for (OrderProductReq req : orderWriteReqBody.products()) {
+      productCounts.merge(Long.parseLong(req.productId()), req.productCount(), Integer::sum);
+    }
+    return productCounts;
+  }
+
+  // 주문 여러 건을 트랜잭션 하나로 저장 (OrderIntakeService 의 group commit 용)
+  // 결과는 요청 순서대로: 성공은 201, 상품 없음/재고 부족은 해당 주문만 실패 응답
+  public List<RsData<OrderDto>> writeBatch(List<OrderWriteReqBody> orderWriteReqBodies) {
+    List<Map<Long, Integer>> productCounts = orderWriteReqBodies.stream()
+        .map(OrderService::productCounts)
         .toList();
 
-    // products에서 첫 번째 상품의 이름을 가져오기
-    String firstProductName = products.getFirst().getProductName();
-    int productsSize = orderWriteReqBody.products().size() - 1;
-    // 주문 생성
-    Order orderBuilder = Order.builder()
+    List<Reservation> reservations = writeTx.execute(status -> reserveAndSaveAll(orderWriteReqBodies, productCounts));
+
+    return reservations.stream()
+        .map(reservation -> reservation.order() != null
+            ? created(reservation.order())
+            : RsData.<OrderDto>of(reservation.rejection().getResultCode(), reservation.rejection().getMessage(), null))
+        .toList();
+  }
+
+  // 배치 전체의 상품별 수량 합으로 decreaseStock 을 상품 ID 순으로 한 번씩 실행 (writeTx 안에서 실행, SELECT ... FOR UPDATE 없음)
+  // 합이 재고를 넘는 상품만 주문별 decreaseStock 으로 요청 순서대로 배정하고, 진 주문이 앞 상품에서 예약한 재고는 마지막에 돌려준다
+  // 주문/아이템 INSERT 는 JDBC batch 로 묶여 커밋 한 번에 나간다
+  private List<Reservation> reserveAndSaveAll(List<OrderWriteReqBody> orderWriteReqBodies, List<Map<Long, Integer>> productCounts) {
+    Set<Long> productIds = productCounts.stream()
+        .flatMap(counts -> counts.keySet().stream())
+        .collect(Collectors.toCollection(TreeSet::new));
+    Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+        .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+    BaseResponse[] rejections = new BaseResponse[orderWriteReqBodies.size()];
+    for (int i = 0; i < rejections.length; i++) {
+      if (!products.keySet().containsAll(productCounts.get(i).keySet())) {
+        rejections[i] = new BadRequestException("상품을 찾을 수 없습니다.");
+      }
+    }
+
+    Map<Long, Integer> released = new TreeMap<>();
+    for (Long productId : productIds) {
+      List<Integer> claimants = new ArrayList<>();
+      int total = 0;
+      for (int i = 0; i < rejections.length; i++) {
+        Integer count = productCounts.get(i).get(productId);
+        if (rejections[i] == null && count != null) {
+          claimants.add(i);
+          total += count;
+        }
+      }
+      if (claimants.isEmpty() || productRepository.decreaseStock(productId, total) != 0) {
+        continue;
+      }
+
+      // 재고 부족: 요청 순서대로 한 주문씩 예약해 모자라는 주문만 거절
+      for (int i : claimants) {
+        Map<Long, Integer> counts = productCounts.get(i);
+        if (productRepository.decreaseStock(productId, counts.get(productId)) == 0) {
+          rejections[i] = new OutOfStockException(products.get(productId).getProductName());
+          counts.forEach((reservedId, count) -> {
+            if (reservedId < productId) {
+              released.merge(reservedId, count, Integer::sum);
+            }
+          });
+        }
+      }
+    }
+    // 되돌리는 상품 행은 이미 이 트랜잭션이 UPDATE 로 잠근 행이다
+    released.forEach(productRepository::increaseStock);
+
+    List<Reservation> reservations = new ArrayList<>(orderWriteReqBodies.size());
+    for (int i = 0; i < orderWriteReqBodies.size(); i++) {
+      reservations.add(rejections[i] == null
+          ? new Reservation(createOrder(orderWriteReqBodies.get(i), productCounts.get(i), products), null)
+          : new Reservation(null, rejections[i]));
+    }
+
+    List<Order> orders = orderRepository.saveAll(reservations.stream()
+        .map(Reservation::order)
+        .filter(Objects::nonNull)
+        .toList());
+    salesOutboxService.recordCreated(orders);
+    return reservations;
+  }
+
+  private record Reservation(Order order, BaseResponse rejection) {
+  }
+
+  // Idempotency-Key 가 붙은 주문 생성: 같은 요청자의 같은 키 재시도는 주문/재고를 건드리지 않고 첫 응답 JSON 을 그대로 돌려준다
+  public IdempotencyKeyStore.Result writeOnce(String owner, String idempotencyKey, OrderWriteReqBody orderWriteReqBody) {
+    return idempotencyKeyStore.execute(owner, idempotencyKey, fingerprint(orderWriteReqBody),
+        () -> toJson(write(orderWriteReqBody)));
+  }
+
+  private String fingerprint(OrderWriteReqBody orderWriteReqBody) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(orderWriteReqBody)));
+    } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+      throw new IllegalStateException("주문 요청 해시 실패", e);
+    }
+  }
+
+  private byte[] toJson(RsData<OrderDto> rsData) {
+    try {
+      return objectMapper.writeValueAsBytes(rsData);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("주문 응답 직렬화 실패", e);
+    }
+  }
+
+  // 상품 조회 + 재고 예약 + 주문 저장 (writeTx 안에서 실행)
+  private Order reserveAndSave(OrderWriteReqBody orderWriteReqBody, Map<Long, Integer> productCounts) {
+    // 주문 상품 일괄 조회 (IN 쿼리 1회)
+    Map<Long, Product> products = productRepository.findAllById(productCounts.keySet()).stream()
+        .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+    if (products.size() != productCounts.size()) {
+      throw new BadRequestException("상품을 찾을 수 없습니다.");
+    }
+
+    // 재고 예약: 상품 ID 오름차순으로 조건부 UPDATE (행 잠금 순서를 고정해 교착 방지)
+    // 한 줄이라도 재고가 부족하면 예외 → 트랜잭션 롤백으로 앞서 차감한 재고도 복구
+    productCounts.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .forEach(entry -> {
+          if (productRepository.decreaseStock(entry.getKey(), entry.getValue()) == 0) {
+            throw new OutOfStockException(products.get(entry.getKey()).getProductName());
+          }
+        });
+
+    Order order = orderRepository.save(createOrder(orderWriteReqBody, productCounts, products));
+    salesOutboxService.recordCreated(List.of(order));
+    return order;
+  }
+
+  // 주문 + 주문 아이템 생성 (OrderItem 은 cascade 로 함께 저장되어 JDBC batch insert 로 묶인다)
+  private Order createOrder(OrderWriteReqBody orderWriteReqBody, Map<Long, Integer> productCounts, Map<Long, Product> products) {
+    int totalPrice = 0;
+    int totalCount = 0;
+    for (Map.Entry<Long, Integer> entry : productCounts.entrySet()) {
+      totalPrice += products.get(entry.getKey()).getPrice() * entry.getValue();
+      totalCount += entry.getValue();
+    }
+
+    // 요청의 첫 번째 상품 이름으로 주문명 생성
+    String firstProductName = products.get(productCounts.keySet().iterator().next()).getProductName();
+    Order order = Order.builder()
         .user("")
-        .orderCount(totalCount.get())
-        .productName(firstProductName + " 외 " + productsSize + "개")
-        .totalPrice(totalPrice.get())
+        .orderCount(totalCount)
+        .productName(firstProductName + " 외 " + (productCounts.size() - 1) + "개")
+        .totalPrice(totalPrice)
         .address(orderWriteReqBody.address())
         .email(orderWriteReqBody.userEmail())
         .build();
 
-    Order order = orderRepository.save(orderBuilder);
-
-    for (Product product : products) {
-      OrderItem orderItemBuilder = OrderItem.builder()
+    for (Map.Entry<Long, Integer> entry : productCounts.entrySet()) {
+      Product product = products.get(entry.getKey());
+      order.addOrderItem(OrderItem.builder()
           .order(order)
           .product(product)
           .productPrice(product.getPrice())
-          .totalPrice(product.getPrice() * orderProductReqs.stream()
-              .filter(req -> req.productId().equals(String.valueOf(product.getProductId())))
-              .findFirst()
-              .map(OrderProductReq::productCount)
-              .orElse(0))
-          .orderCount(orderProductReqs.stream()
-              .filter(req -> req.productId().equals(String.valueOf(product.getProductId())))
-              .findFirst()
-              .map(OrderProductReq::productCount)
-              .orElse(0))
-          .build();
-
-      OrderItem orderItem = orderItemRepository.save(orderItemBuilder);
-      order.addOrderItem(orderItem);
+          .totalPrice(product.getPrice() * entry.getValue())
+          .orderCount(entry.getValue())
+          .build());
     }
 
+    return order;
+  }
+
+  public RsData<OrderPageDto> findByEmail(String email, String cursor, int size) {
+    int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    OrderCursor after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
 
-    OrderDto dtoList = new OrderDto(order);
-    System.out.println("주문 정보:");
-    System.out.println("주문 ID: " + order.getOrderId() + ", 주문자 이메일: " + order.getEmail() + ", 주문 총액: " + order.getTotalPrice() + "원, 주문 수량: " + order.getOrderCount() + ", 주소: " + order.getAddress());
+    OrderPage orderPage = readYourWrites.read(email, () -> readTx.execute(status -> findPage(email, after, pageSize)));
 
-    for (OrderItem orderItem : order.getOrderItems()) {
-      System.out.println("주문 아이템 정보:");
-      System.out.println(orderItem.getOrderItemId() + " - " + orderItem.getProduct().getProductName() + " - " + orderItem.getOrderCount() + "개 - " + orderItem.getTotalPrice() + "원");
+    if (orderPage.orders().isEmpty()) {
+      // 빈 리스트 반환 (에러 대신)
+      return RsData.of("200-OK", "주문 내역이 없습니다.", new OrderPageDto(List.of(), null));
     }
 
-    return RsData.of("201-CREATED", "주문 생성 성공", dtoList);
+    List<OrderDto> dtoList = orderPage.orders().stream()
+        .map(OrderDto::new)
+        .toList();
+    String nextCursor = orderPage.hasNext() ? OrderCursor.of(orderPage.orders().getLast()).encode() : null;
+
+    return RsData.of("200-OK", "주문 조회 성공", new OrderPageDto(dtoList, nextCursor));
   }
 
-  public RsData<List<OrderDto>> findByEmail(String email) {
-    List<Order> orders = orderRepository.findByEmailWithItems(email);
-    System.out.println("Order : " + orders);
+  // 커서 이후 pageSize 건 + 아이템/상품까지 로딩 (readTx 안에서 실행)
+  private OrderPage findPage(String email, OrderCursor after, int pageSize) {
+    // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+    Pageable limit = PageRequest.of(0, pageSize + 1);
+    List<Order> orders = after == null
+        ? orderRepository.findPageByEmail(email, limit)
+        : orderRepository.findPageByEmailAfter(email, after.createdAt(), after.orderId(), limit);
     if (orders.isEmpty()) {
-      // 빈 리스트 반환 (에러 대신)
-      return RsData.of("200-OK", "주문 내역이 없습니다.", List.of());
+      return new OrderPage(List.of(), false);
     }
-    List<OrderDto> dtoList = orders.stream()
-        .map(OrderDto::new)
+
+    boolean hasNext = orders.size() > pageSize;
+    List<Order> page = hasNext ? orders.subList(0, pageSize) : orders;
+
+    // 페이지에 포함된 주문의 아이템을 IN 쿼리 한 번으로 로딩
+    Map<Long, Order> ordersWithItems = orderRepository.findAllWithItemsByOrderIdIn(page.stream().map(Order::getOrderId).toList())
+        .stream()
+        .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+    List<Order> loaded = page.stream()
+        .map(order -> ordersWithItems.get(order.getOrderId()))
         .toList();
+    return new OrderPage(loaded, hasNext);
+  }
 
-    return RsData.of("200-OK", "주문 조회 성공", dtoList);
+  private record OrderPage(List<Order> orders, boolean hasNext) {
   }
 
   public RsData<OrderDto> findById(long orderId) {
-    Optional<Order> order = orderRepository.findByIdWithItems(orderId);
+    Optional<Order> order = readTx.execute(status -> orderRepository.findByIdWithItems(orderId));
+    if (order.isEmpty()) {
+      // 읽기 DB 에 아직 복제되지 않은 주문일 수 있으므로 쓰기 DB 에서 한 번 더 확인
+      order = ReadYourWritesTracker.onPrimary(() -> readTx.execute(status -> orderRepository.findByIdWithItems(orderId)));
+    }
     if (order.isPresent()) {
       OrderDto dto = new OrderDto(order.get());
       return RsData.of("200-OK", "주문 조회 성공", dto);
@@ -123,67 +356,119 @@ public class OrderService {
     }
   }
 
+  // 상태 구독 직후 보낼 현재 상태 (복제 지연으로 방금 커밋된 변경을 놓치지 않게 쓰기 DB 에서 읽는다)
+  public Optional<OrderStatusEventDto> findCurrentStatus(long orderId) {
+    return ReadYourWritesTracker.onPrimary(() -> readTx.execute(status -> orderRepository.findById(orderId)))
+        .map(order -> new OrderStatusEventDto(
+            order.getOrderId(), order.getOrderStatus(), order.isDeliveryStatus(), order.getModifiedAt()));
+  }
 
   public RsData<OrderDto> modifyOrder(OrderDto orderDto) {
-    System.out.println("OrderStatus: " + orderDto.orderStatus());
-    Optional<Order> optionalOrder = orderRepository.findById(orderDto.orderId());
-    if (optionalOrder.isEmpty()) {
-      return RsData.of("404-NOT_FOUND", "주문을 찾을 수 없습니다.", null);
-    }
-
-    Order order = optionalOrder.get();
-    System.out.println("Order Status: " + order.getOrderStatus());
-
-    order.modify(orderDto.orderStatus());
-
-    Order updatedOrder = orderRepository.save(order);
-    OrderDto updatedDto = new OrderDto(updatedOrder);
-
-    return RsData.of("200-OK", "주문 상태 변경 성공", updatedDto);
+    return modifyStatus(orderDto.orderId(), orderDto.orderStatus());
   }
-  
+
   public RsData<OrderDto> modifyOrderStatus(OrderStatusUpdateDto orderStatusUpdateDto) {
-    System.out.println("OrderStatus: " + orderStatusUpdateDto.orderStatus());
-    Optional<Order> optionalOrder = orderRepository.findById(orderStatusUpdateDto.orderId());
+    return modifyStatus(orderStatusUpdateDto.orderId(), orderStatusUpdateDto.orderStatus());
+  }
+
+  private RsData<OrderDto> modifyStatus(long orderId, String orderStatus) {
+    Optional<Order> optionalOrder = writeTx.execute(status -> {
+      Optional<Order> found = orderRepository.findByIdWithItems(orderId);
+      found.ifPresent(order -> {
+        String previousStatus = order.getOrderStatus();
+        log.info("주문 상태 변경: orderId={}, {} -> {}", order.getOrderId(), previousStatus, orderStatus);
+        order.modify(orderStatus);
+        if (!order.getOrderStatus().equals(previousStatus)) {
+          eventPublisher.publishEvent(new OrderStatusEventDto(
+              order.getOrderId(), order.getOrderStatus(), order.isDeliveryStatus(), LocalDateTime.now()));
+        }
+      });
+      return found;
+    });
     if (optionalOrder.isEmpty()) {
       return RsData.of("404-NOT_FOUND", "주문을 찾을 수 없습니다.", null);
     }
 
-    Order order = optionalOrder.get();
-    System.out.println("Order Status: " + order.getOrderStatus());
+    OrderDto updatedDto = new OrderDto(optionalOrder.get());
 
-    order.modify(orderStatusUpdateDto.orderStatus());
+    return RsData.of("200-OK", "주문 상태 변경 성공", updatedDto);
+  }
 
-    Order updatedOrder = orderRepository.save(order);
-    OrderDto updatedDto = new OrderDto(updatedOrder);
+  // 주문 상태 일괄 변경: 조건부 집합 UPDATE (ID 목록은 BULK_STATUS_CHUNK_SIZE 건씩, 생성 시각 구간은 한 번), SELECT ... FOR UPDATE 없음
+  // 변경된 ID 는 같은 트랜잭션에서 UPDATE 가 남긴 modifiedAt 으로 다시 읽는다 (엔티티/DTO 로딩 없이 ID 만)
+  // 한 묶음의 IN 목록이 바인드 파라미터 한도(PostgreSQL 32767)를 넘지 않는다
+  public RsData<OrderBulkStatusResultDto> modifyOrderStatuses(OrderBulkStatusUpdateDto orderBulkStatusUpdateDto) {
+    List<Long> orderIds = orderBulkStatusUpdateDto.orderIds();
+    boolean byIds = orderIds != null && !orderIds.isEmpty();
+    if (!byIds && (orderBulkStatusUpdateDto.from() == null || orderBulkStatusUpdateDto.to() == null)) {
+      throw new BadRequestException("orderIds 또는 from/to 가 필요합니다.");
+    }
+    String orderStatus = orderBulkStatusUpdateDto.orderStatus();
+    boolean deliveryStatus = Order.isDelivered(orderStatus);
+    // 컬럼 정밀도(마이크로초)에 맞춰 잘라야 UPDATE 한 값과 다시 읽는 조건이 같다
+    LocalDateTime modifiedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    // UPDATE 가 행을 잠그는 순서를 ID 오름차순으로 고정 (교착 방지)
+    List<Long> requestedIds = byIds ? orderIds.stream().distinct().sorted().toList() : List.of();
+
+    OrderBulkStatusResultDto result = writeTx.execute(status -> {
+      List<Long> updatedIds = new ArrayList<>();
+      if (byIds) {
+        for (int from = 0; from < requestedIds.size(); from += BULK_STATUS_CHUNK_SIZE) {
+          List<Long> chunk = requestedIds.subList(from, Math.min(from + BULK_STATUS_CHUNK_SIZE, requestedIds.size()));
+          if (orderRepository.modifyStatusByOrderIdIn(chunk, orderStatus, deliveryStatus, modifiedAt) > 0) {
+            updatedIds.addAll(orderRepository.findIdsModifiedByOrderIdIn(chunk, orderStatus, modifiedAt));
+          }
+        }
+      } else if (orderRepository.modifyStatusByCreatedAtBetween(orderBulkStatusUpdateDto.from(), orderBulkStatusUpdateDto.to(),
+          orderStatus, deliveryStatus, modifiedAt) > 0) {
+        updatedIds.addAll(orderRepository.findIdsModifiedByCreatedAtBetween(orderBulkStatusUpdateDto.from(), orderBulkStatusUpdateDto.to(),
+            orderStatus, modifiedAt));
+      }
+
+      if (!updatedIds.isEmpty()) {
+        eventPublisher.publishEvent(new OrderBulkStatusEventDto(updatedIds, orderStatus, deliveryStatus, modifiedAt));
+      }
+      Set<Long> updated = new HashSet<>(updatedIds);
+      List<Long> skippedIds = requestedIds.stream()
+          .filter(orderId -> !updated.contains(orderId))
+          .toList();
+      return new OrderBulkStatusResultDto(updatedIds.size(), updatedIds, skippedIds);
+    });
 
-    return RsData.of("200-OK", "주문 상태 변경 성공", updatedDto);
+    log.info("주문 상태 일괄 변경: status={}, count={}, skipped={}", orderStatus, result.updatedCount(), result.skippedOrderIds().size());
+    return RsData.of("200-OK", "주문 상태 일괄 변경 성공", result);
   }
 
   public RsData<OrderDto> deleteOrder(long orderId) {
-    Optional<Order> optionalOrder = orderRepository.findById(orderId);
+    Optional<Order> optionalOrder = writeTx.execute(status -> {
+      Optional<Order> found = orderRepository.findByIdWithItems(orderId);
+      found.ifPresent(order -> {
+        salesOutboxService.recordDeleted(order);
+        orderRepository.delete(order);
+        // 예약했던 재고를 돌려준다 (상품 ID 순서로 UPDATE 해 주문 생성과 같은 잠금 순서 유지)
+        Map<Long, Integer> released = new TreeMap<>();
+        for (OrderItem orderItem : order.getOrderItems()) {
+          released.merge(orderItem.getProduct().getProductId(), orderItem.getOrderCount(), Integer::sum);
+        }
+        released.forEach(productRepository::increaseStock);
+      });
+      return found;
+    });
     if (optionalOrder.isEmpty()) {
       return RsData.of("404-NOT_FOUND", "주문을 찾을 수 없습니다.", null);
     }
+    productLeaderboard.recordCanceled(optionalOrder.get());
 
-    Order order = optionalOrder.get();
-    orderRepository.delete(order);
-
-    OrderDto deletedDto = new OrderDto(order);
+    OrderDto deletedDto = new OrderDto(optionalOrder.get());
     return RsData.of("200-OK", "주문 취소 성공", deletedDto);
   }
 
   public RsData<List<OrderDto>> findTodayOrders() {
-    ZoneId zoneKST = ZoneId.of("Asia/Seoul");
+    ShippingWindow window = ShippingWindow.today();
 
-    LocalDateTime todayAt2pm = LocalDate.now(zoneKST).atTime(14, 0);
-    LocalDateTime yesterdayAt2pm = todayAt2pm.minusDays(1);
+    List<Order> orders = readTx.execute(status -> orderRepository.findByCreatedAtBetweenWithItems(window.from(), window.to()));
 
-    List<Order> orders = orderRepository.findByCreatedAtBetweenWithItems(yesterdayAt2pm, todayAt2pm);
-
-    orders.forEach(order -> {
-      System.out.println("Order ID: " + order.getOrderId() + ", Created At: " + order.getCreatedAt());
-    });
+    log.debug("오늘 배송 주문 조회: from={}, to={}, count={}", window.from(), window.to(), orders.size());
 
     if (orders.isEmpty()) {
       throw new DataNotFoundException("오늘 주문 내역이 없습니다.");
@@ -13,7 +13,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class OrderItem {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq_generator")
+  @SequenceGenerator(name = "order_item_seq_generator", sequenceName = "order_item_seq", allocationSize = 50)
   private Long orderItemId;
 
   private int orderCount;
@@ -28,7 +29,7 @@ public class OrderItem {
   private Order order;
 
   @ManyToOne(fetch = FetchType.LAZY)
-  @JoinColumn(name = "product_id", referencedColumnName = "product_id", insertable = false, updatable = false)
+  @JoinColumn(name = "product_id", referencedColumnName = "product_id")
   private Product product;
 
   @Builder
@@ -2,10 +2,23 @@ package com.back.teamcoffee.domain.order.orderItem.repository;
 
 import com.back.teamcoffee.domain.order.order.entity.Order;
 import com.back.teamcoffee.domain.order.orderItem.entity.OrderItem;
+import com.back.teamcoffee.domain.sales.dto.ProductSalesDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
+  // 매출 재집계용: 구간 내 주문 아이템을 상품별로 합산 (주문 수는 상품이 포함된 주문 수)
+  @Query("""
+      SELECT new com.back.teamcoffee.domain.sales.dto.ProductSalesDto(
+          p.productId, p.productName, COUNT(DISTINCT o.orderId), SUM(oi.orderCount), SUM(oi.totalPrice))
+      FROM OrderItem oi JOIN oi.order o JOIN oi.product p
+      WHERE o.createdAt >= :from AND o.createdAt < :to
+      GROUP BY p.productId, p.productName
+      """)
+  List<ProductSalesDto> sumSalesByProduct(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -2,13 +2,22 @@ package com.back.teamcoffee.domain.product.controller;
 
 import com.back.teamcoffee.domain.product.dto.ProductDto;
 import com.back.teamcoffee.domain.product.dto.ProductMenuDto;
+import com.back.teamcoffee.domain.product.dto.TopProductDto;
+import com.back.teamcoffee.domain.product.entity.ProductImage;
+import com.back.teamcoffee.domain.product.service.ProductLeaderboardService;
+import com.back.teamcoffee.domain.product.service.ProductSearchService;
 import com.back.teamcoffee.domain.product.service.ProductService;
 import com.back.teamcoffee.global.rsdata.RsData;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -16,6 +25,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final ProductLeaderboardService productLeaderboardService;
+    private final ProductSearchService productSearchService;
 
     // 새 상품 등록
     @PostMapping
@@ -24,11 +35,28 @@ public class ProductController {
         return ResponseEntity.status(201).body(createdProduct);
     }
 
-    // 전체 상품 조회
+    // 전체 상품 조회 (캐시된 JSON 그대로 응답)
     @GetMapping
-    public ResponseEntity<RsData<List<ProductDto>>> getProductList() {
-        RsData<List<ProductDto>> productList = productService.getProductList();
-        return ResponseEntity.ok(productList);
+    public ResponseEntity<byte[]> getProductList() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productService.getProductListJson());
+    }
+
+    // 인기 상품 순위 (window=1h|24h, 메모리의 순위 목록만 읽고 DB 는 조회하지 않음)
+    @GetMapping("/top")
+    public ResponseEntity<RsData<List<TopProductDto>>> getTopProducts(
+            @RequestParam(defaultValue = "24h") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productLeaderboardService.getTopProducts(window, limit));
+    }
+
+    // 상품명/설명 검색 (접두어, 오타 허용, 메모리 색인만 읽고 DB 는 조회하지 않음)
+    @GetMapping("/search")
+    public ResponseEntity<RsData<List<ProductMenuDto>>> searchProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productSearchService.search(q, limit));
     }
 
     // 상품 id로 상세 조회
@@ -38,6 +66,33 @@ public class ProductController {
         return ResponseEntity.ok(product);
     }
 
+    // 상품 이미지 조회
+    // URL 의 v 가 현재 이미지 해시와 같으면 내용이 바뀌지 않으므로 1년 immutable 캐시, 아니면 매번 ETag 재검증
+    @GetMapping("/{id}/image")
+    public ResponseEntity<byte[]> getProductImage(
+            @PathVariable Long id,
+            @RequestParam(name = "v", required = false) String version,
+            WebRequest webRequest) {
+        ProductImage image = productService.getProductImage(id);
+        String eTag = "\"" + image.getImageHash() + "\"";
+        CacheControl cacheControl = image.getVersion().equals(version)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                : CacheControl.noCache();
+
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .contentType(image.getMediaType())
+                .body(image.getContent());
+    }
+
     // 상품 삭제
     @DeleteMapping("/{id}")
     public ResponseEntity<RsData<Void>> deleteProduct(@PathVariable Long id) {
@@ -54,10 +109,11 @@ public class ProductController {
         return ResponseEntity.ok(updatedProduct);
     }
 
-    // 상품 메뉴 조회
+    // 상품 메뉴 조회 (캐시된 JSON 그대로 응답)
     @GetMapping("/menu")
-    public ResponseEntity<RsData<List<ProductMenuDto>>> getMenu() {
-        RsData<List<ProductMenuDto>> menu = productService.getMenu();
-        return ResponseEntity.ok(menu);
+    public ResponseEntity<byte[]> getMenu() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productService.getMenuJson());
     }
 }
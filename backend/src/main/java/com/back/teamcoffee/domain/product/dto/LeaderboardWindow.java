@@ -0,0 +1,27 @@
+package com.back.teamcoffee.domain.product.dto;
+
+import com.back.teamcoffee.global.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+// 인기 상품 집계 창 (/products/top?window=1h|24h)
+@Getter
+@RequiredArgsConstructor
+public enum LeaderboardWindow {
+    HOUR("1h", Duration.ofHours(1)),
+    DAY("24h", Duration.ofHours(24));
+
+    private final String param;
+    private final Duration length;
+
+    public static LeaderboardWindow from(String window) {
+        for (LeaderboardWindow value : values()) {
+            if (value.param.equalsIgnoreCase(window)) {
+                return value;
+            }
+        }
+        throw new BadRequestException("지원하지 않는 집계 기간입니다: " + window);
+    }
+}
@@ -0,0 +1,15 @@
+package com.back.teamcoffee.domain.product.dto;
+
+// 상품 등록/수정/삭제 이벤트 (커밋 후 검색 색인에 반영, 삭제면 product 가 null)
+public record ProductChangedEventDto(
+        Long productId,
+        ProductMenuDto product
+) {
+    public static ProductChangedEventDto saved(ProductMenuDto product) {
+        return new ProductChangedEventDto(product.productId(), product);
+    }
+
+    public static ProductChangedEventDto deleted(Long productId) {
+        return new ProductChangedEventDto(productId, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.back.teamcoffee.domain.product.dto;
+
+// 인기 상품 순위 항목 (orderCount 는 창 안에서 주문된 수량)
+public record TopProductDto(
+        Long productId,
+        String productName,
+        long orderCount
+) {
+}
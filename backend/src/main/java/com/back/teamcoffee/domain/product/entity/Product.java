@@ -4,6 +4,7 @@ import com.back.teamcoffee.domain.order.orderItem.entity.OrderItem;
 import com.back.teamcoffee.domain.wishlist.entity.WishList;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -13,7 +14,9 @@ import static jakarta.persistence.CascadeType.PERSIST;
 import static jakarta.persistence.CascadeType.REMOVE;
 import static jakarta.persistence.FetchType.LAZY;
 
+// stock/orderCount 는 조건부 UPDATE 로만 바뀐다: 바뀐 컬럼만 UPDATE 해 상품 수정이 그 값을 덮어쓰지 않게 한다
 @Entity
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,6 +38,8 @@ public class Product {
     @Column(name = "order_count")
     private int orderCount;
 
+    // 이미지 URL (외부 URL 또는 data URI 이미지의 /products/{id}/image?v=... 경로)
+    // data URI 원본은 ProductImage 에 따로 저장해 목록 조회 시 로딩하지 않는다
     @Column(name = "product_image", columnDefinition = "TEXT")
     private String productImage;
 
@@ -0,0 +1,107 @@
+package com.back.teamcoffee.domain.product.entity;
+
+import com.back.teamcoffee.global.exception.BadRequestException;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+
+// data URI 로 등록된 상품 이미지 원본. 상품 목록 조회 시 함께 로딩되지 않도록 product 테이블과 분리
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_image")
+public class ProductImage {
+    private static final String DATA_URI_PREFIX = "data:";
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    // 원본의 SHA-256 (ETag 및 이미지 URL 버전으로 사용)
+    @Column(name = "image_hash", nullable = false, length = 64)
+    private String imageHash;
+
+    @Column(name = "image_data", nullable = false, columnDefinition = "TEXT")
+    private String imageData;
+
+    private ProductImage(Long productId, String imageHash, String imageData) {
+        this.productId = productId;
+        this.imageHash = imageHash;
+        this.imageData = imageData;
+    }
+
+    public static boolean isInline(String image) {
+        return image.startsWith(DATA_URI_PREFIX);
+    }
+
+    public static ProductImage of(Long productId, String imageData) {
+        ProductImage image = new ProductImage(productId, sha256(imageData), imageData);
+        // 잘못된 data URI 는 저장 시점에 거절
+        image.getMediaType();
+        image.getContent();
+        return image;
+    }
+
+    // 목록 DTO 에 내려가는 content-hash URL
+    public String getImageUrl() {
+        return "/products/" + productId + "/image?v=" + getVersion();
+    }
+
+    public String getVersion() {
+        return imageHash.substring(0, 16);
+    }
+
+    public MediaType getMediaType() {
+        String mediaType = header().split(";", 2)[0];
+        if (mediaType.isEmpty()) {
+            return MediaType.TEXT_PLAIN;
+        }
+        try {
+            return MediaType.parseMediaType(mediaType);
+        } catch (InvalidMediaTypeException e) {
+            throw new BadRequestException("이미지 형식이 올바르지 않습니다.");
+        }
+    }
+
+    public byte[] getContent() {
+        String payload = imageData.substring(imageData.indexOf(',') + 1);
+        try {
+            if (header().endsWith(";base64")) {
+                return Base64.getMimeDecoder().decode(payload);
+            }
+            return URLDecoder.decode(payload, StandardCharsets.UTF_8).getBytes(StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("이미지 데이터가 올바르지 않습니다.");
+        }
+    }
+
+    private String header() {
+        int comma = imageData.indexOf(',');
+        if (comma < 0) {
+            throw new BadRequestException("이미지 데이터가 올바르지 않습니다.");
+        }
+        return imageData.substring(DATA_URI_PREFIX.length(), comma);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.back.teamcoffee.domain.product.repository;
+
+import com.back.teamcoffee.domain.product.entity.ProductImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
+}
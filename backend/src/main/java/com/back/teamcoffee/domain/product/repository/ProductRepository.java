@@ -2,6 +2,30 @@ package com.back.teamcoffee.domain.product.repository;
 
 import com.back.teamcoffee.domain.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    // 재고가 충분할 때만 차감하는 조건부 UPDATE (SELECT ... FOR UPDATE 없이 원자적으로 예약)
+    // 반환값이 0이면 재고 부족
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :count WHERE p.productId = :productId AND p.stock >= :count")
+    int decreaseStock(@Param("productId") Long productId, @Param("count") int count);
+
+    // 인기 상품 집계에서 모아 둔 주문 수량을 누적 (반환값이 0이면 삭제된 상품)
+    @Modifying
+    @Query("UPDATE Product p SET p.orderCount = p.orderCount + :delta WHERE p.productId = :productId")
+    int increaseOrderCount(@Param("productId") Long productId, @Param("delta") int delta);
+
+    // 예약한 재고 되돌리기 (group commit 에서 뒤 상품 재고가 모자라 거절된 주문의 몫)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock + :count WHERE p.productId = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("count") int count);
+
+    // 관리자 재고 수정은 증감분으로 반영 (그 사이 주문이 차감한 재고를 덮어쓰지 않게), 결과가 음수가 되면 0
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock + :delta WHERE p.productId = :productId AND p.stock + :delta >= 0")
+    int adjustStock(@Param("productId") Long productId, @Param("delta") int delta);
 }
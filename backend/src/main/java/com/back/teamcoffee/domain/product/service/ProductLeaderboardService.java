@@ -0,0 +1,252 @@
+package com.back.teamcoffee.domain.product.service;
+
+import com.back.teamcoffee.domain.order.order.entity.Order;
+import com.back.teamcoffee.domain.order.orderItem.entity.OrderItem;
+import com.back.teamcoffee.domain.product.dto.LeaderboardWindow;
+import com.back.teamcoffee.domain.product.dto.TopProductDto;
+import com.back.teamcoffee.global.rsdata.RsData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 인기 상품 순위: 커밋된 주문의 상품별 수량을 메모리에서 세고, 조회는 미리 만들어 둔 상위 목록만 돌려준다 (DB 조회 없음)
+// - 주문 스레드는 상품별 LongAdder 에 더하기만 한다 (동시 주문이 몰려도 락 없이 셀 단위로 분산)
+// - 수량은 주문 시각(createdAt)이 속한 1분 구간 단위로 모으고, 취소는 같은 구간에서 뺀다 (구간이 창을 벗어나면 주문과 취소가 함께 빠진다)
+// - leaderboard 스레드가 refresh-interval 마다 누적분을 구간에 옮기고, 창(1h/24h)별 합계와 상위 top-size 개를 다시 만든다
+// - flush-interval 마다 누적분을 Product.orderCount 에 한 번에 반영
+// 창 합계는 메모리에만 있으므로 재시작하면 그 이후 주문부터 다시 센다 (순위는 최대 refresh-interval 만큼 늦다)
+@Slf4j
+@Service
+public class ProductLeaderboardService implements DisposableBean {
+    private static final long SLOT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final ProductService productService;
+    private final int topSize;
+    private final ScheduledExecutorService scheduler;
+
+    // 마지막 refresh 이후 주문/취소 수량: 주문 시각의 구간 시작 → 상품별 수량 (주문 스레드가 더하고 refresh 가 가져간다)
+    private final Map<Long, Map<Long, LongAdder>> pending = new ConcurrentHashMap<>();
+    // 마지막 flush 이후 주문 수량 (Product.orderCount 반영용)
+    private final Map<Long, LongAdder> unflushed = new ConcurrentHashMap<>();
+    // 상품 이름은 주문에 실린 값을 기억해 두고 응답에 쓴다 (삭제된 상품은 flush 때 빠진다)
+    private final Map<Long, String> productNames = new ConcurrentHashMap<>();
+
+    // 창마다 구간/합계를 따로 둔다 (창 길이에 따라 구간이 빠지는 시점이 다르다)
+    private final Map<LeaderboardWindow, WindowState> windows = new EnumMap<>(LeaderboardWindow.class);
+
+    public ProductLeaderboardService(ProductService productService,
+                                     @Value("${app.products.leaderboard.refresh-interval:10s}") Duration refreshInterval,
+                                     @Value("${app.products.leaderboard.flush-interval:1m}") Duration flushInterval,
+                                     @Value("${app.products.leaderboard.top-size:20}") int topSize) {
+        this.productService = productService;
+        this.topSize = topSize;
+        for (LeaderboardWindow window : LeaderboardWindow.values()) {
+            windows.put(window, new WindowState(window.getLength().toMillis()));
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("product-leaderboard").daemon().factory());
+        this.scheduler.scheduleWithFixedDelay(this::refreshQuietly, refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 주문 커밋 후 호출
+    public void recordOrdered(Order order) {
+        recordOrdered(order, orderedAt(order));
+    }
+
+    void recordOrdered(Order order, long orderedAt) {
+        for (OrderItem item : order.getOrderItems()) {
+            productNames.put(item.getProduct().getProductId(), item.getProduct().getProductName());
+            add(item.getProduct().getProductId(), item.getOrderCount(), orderedAt);
+        }
+    }
+
+    // 주문 취소 커밋 후 호출
+    public void recordCanceled(Order order) {
+        recordCanceled(order, orderedAt(order));
+    }
+
+    // 주문을 센 구간에서 뺀다: 그 구간이 이미 벗어난 창은 건드리지 않고 (refresh 에서 건너뜀), orderCount 는 항상 되돌린다
+    void recordCanceled(Order order, long orderedAt) {
+        for (OrderItem item : order.getOrderItems()) {
+            add(item.getProduct().getProductId(), -item.getOrderCount(), orderedAt);
+        }
+    }
+
+    // 저장 전 주문 (createdAt 없음) 은 지금 시각으로 센다
+    private static long orderedAt(Order order) {
+        return order.getCreatedAt() == null
+                ? System.currentTimeMillis()
+                : order.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void add(Long productId, long count, long orderedAt) {
+        pending.computeIfAbsent(slotStart(orderedAt), start -> new ConcurrentHashMap<>())
+                .computeIfAbsent(productId, id -> new LongAdder()).add(count);
+        unflushed.computeIfAbsent(productId, id -> new LongAdder()).add(count);
+    }
+
+    private static long slotStart(long millis) {
+        return millis - Math.floorMod(millis, SLOT_MILLIS);
+    }
+
+    // 미리 만든 상위 목록을 잘라서 반환 (O(limit))
+    public RsData<List<TopProductDto>> getTopProducts(String window, int limit) {
+        List<TopProductDto> top = windows.get(LeaderboardWindow.from(window)).top;
+        int size = Math.min(Math.max(limit, 1), top.size());
+        return RsData.of("200-OK", "인기 상품 조회 성공", top.subList(0, size));
+    }
+
+    public void refresh() {
+        refresh(System.currentTimeMillis());
+    }
+
+    // 누적분을 주문 시각의 구간에 옮기고, 창을 벗어난 구간을 빼고, 상위 목록을 다시 만든다
+    synchronized void refresh(long now) {
+        long longest = windows.values().stream().mapToLong(state -> state.lengthMillis).max().orElse(0);
+        Map<Long, Map<Long, Long>> drained = new HashMap<>();
+        pending.forEach((slotStart, adders) -> {
+            Map<Long, Long> counts = drain(adders);
+            if (!counts.isEmpty()) {
+                drained.put(slotStart, counts);
+            }
+            // 가장 긴 창에서도 벗어난 구간은 다시 쓰일 일이 없다
+            if (expired(slotStart, now, longest)) {
+                pending.remove(slotStart);
+            }
+        });
+
+        for (WindowState state : windows.values()) {
+            drained.forEach((slotStart, counts) -> {
+                // 이미 창 밖인 구간의 변경은 (늦은 취소) 이 창과 무관하다
+                if (expired(slotStart, now, state.lengthMillis)) {
+                    return;
+                }
+                Map<Long, Long> slot = state.slots.computeIfAbsent(slotStart, start -> new HashMap<>());
+                counts.forEach((productId, count) -> {
+                    slot.merge(productId, count, Long::sum);
+                    state.totals.merge(productId, count, Long::sum);
+                });
+            });
+            // 구간이 통째로 창 밖으로 나가면 그 구간의 수량을 뺀다 (그 구간에서 뺀 취소도 함께 빠진다)
+            while (!state.slots.isEmpty() && expired(state.slots.firstKey(), now, state.lengthMillis)) {
+                state.slots.pollFirstEntry().getValue().forEach((productId, count) ->
+                        state.totals.computeIfPresent(productId, (id, total) -> total - count == 0 ? null : total - count));
+            }
+            state.top = topOf(state.totals);
+        }
+    }
+
+    private static boolean expired(long slotStart, long now, long lengthMillis) {
+        return slotStart + SLOT_MILLIS <= now - lengthMillis;
+    }
+
+    // 크기 topSize 의 최소 힙으로 상위 항목만 남긴다 (O(n log K))
+    private List<TopProductDto> topOf(Map<Long, Long> totals) {
+        PriorityQueue<TopProductDto> heap = new PriorityQueue<>(Comparator.comparingLong(TopProductDto::orderCount));
+        totals.forEach((productId, count) -> {
+            String productName = productNames.get(productId);
+            if (count <= 0 || productName == null) {
+                return;
+            }
+            heap.add(new TopProductDto(productId, productName, count));
+            if (heap.size() > topSize) {
+                heap.poll();
+            }
+        });
+        List<TopProductDto> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingLong(TopProductDto::orderCount).reversed()
+                .thenComparing(TopProductDto::productId));
+        return List.copyOf(top);
+    }
+
+    // Product.orderCount 에 누적분 반영, 반영한 상품 수 반환 (실패하면 누적분을 되돌려 다음 주기에 재시도)
+    public synchronized int flush() {
+        Map<Long, Long> deltas = drain(unflushed);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        Set<Long> missing;
+        try {
+            missing = productService.addOrderCounts(deltas);
+        } catch (RuntimeException e) {
+            deltas.forEach(this::restore);
+            throw e;
+        }
+        // 삭제된 상품은 다음 refresh 부터 순위에서 빠진다
+        missing.forEach(productNames::remove);
+        return deltas.size();
+    }
+
+    private void restore(Long productId, Long count) {
+        unflushed.computeIfAbsent(productId, id -> new LongAdder()).add(count);
+    }
+
+    // 상품 수가 많지 않으므로 adder 는 지우지 않고 0 으로 되돌려 재사용 (지우면 동시에 더한 값을 잃을 수 있다)
+    private static Map<Long, Long> drain(Map<Long, LongAdder> adders) {
+        Map<Long, Long> counts = new HashMap<>();
+        adders.forEach((productId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count != 0) {
+                counts.put(productId, count);
+            }
+        });
+        return counts;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("인기 상품 순위 갱신 실패", e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            int flushed = flush();
+            if (flushed > 0) {
+                log.debug("상품 주문 수 반영: products={}", flushed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("상품 주문 수 반영 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        // 종료 전에 남은 누적분 반영
+        flushQuietly();
+    }
+
+    private static final class WindowState {
+        private final long lengthMillis;
+        // 구간 시작 → 상품별 수량 (refresh 에서만 바꾼다)
+        private final TreeMap<Long, Map<Long, Long>> slots = new TreeMap<>();
+        private final Map<Long, Long> totals = new HashMap<>();
+        private volatile List<TopProductDto> top = List.of();
+
+        private WindowState(long lengthMillis) {
+            this.lengthMillis = lengthMillis;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+package com.back.teamcoffee.domain.product.service;
+
+import com.back.teamcoffee.domain.product.dto.ProductMenuDto;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// 상품명/설명 역색인 (스레드 안전, Spring 비의존)
+// 한글은 음절을 자모로 풀어 (겹모음/겹받침도 기본 자모로) 단어마다 자모 3-gram 을 색인한다
+// - 입력 중인 글자도 접두어로 맞는다 ("아멜" → ㅇㅏㅁㅔㄹ 은 "아메리카노" 의 접두어)
+// - 오타 한 글자는 3-gram 몇 개만 깨뜨리므로, 일부 gram 만 맞아도 후보로 남기고 맞은 수로 순위를 매긴다
+// - 단어 앞에 '^' 를 붙여 단어 시작과 맞는 결과에 점수를 더 준다
+// 수정/삭제는 문서를 지운 것으로 표시하고 새 문서를 추가하며, 지운 문서가 살아 있는 문서보다 많아지면 색인을 다시 만든다
+public class ProductSearchIndex {
+    private static final int GRAM = 3;
+    private static final char WORD_START = '^';
+    // 이름에서 맞은 gram 은 설명보다 2배로 친다
+    private static final int NAME_WEIGHT = 2;
+    private static final int COMPACT_MIN_DEAD = 1_000;
+
+    private static final String[] CHO = {"ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    private static final String[] JUNG = {"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"};
+    private static final String[] JONG = {"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"};
+    // 낱자로 입력된 겹자모 (ㄺ, ㅘ 등)
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"), Map.entry('ㄺ', "ㄹㄱ"),
+            Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"), Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"),
+            Map.entry('ㄿ', "ㄹㅍ"), Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"), Map.entry('ㅘ', "ㅗㅏ"),
+            Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"), Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"),
+            Map.entry('ㅟ', "ㅜㅣ"), Map.entry('ㅢ', "ㅡㅣ"));
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 아래 상태는 lock 으로 보호
+    private final List<ProductMenuDto> docs = new ArrayList<>();
+    private final Map<Long, Integer> docIds = new HashMap<>();
+    private final Map<String, IntList> namePostings = new HashMap<>();
+    private final Map<String, IntList> descriptionPostings = new HashMap<>();
+    private int deadDocs;
+
+    // 질의마다 새로 할당하지 않도록 스레드별 점수 배열 재사용
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    // 전체 교체 (DB 에서 다시 읽은 목록)
+    public void replaceAll(Collection<ProductMenuDto> products) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            products.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 추가 또는 수정
+    public void put(ProductMenuDto product) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(product.productId());
+            add(product);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(productId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 맞은 gram 가중치 합 내림차순, 같으면 이름이 짧은 순 / 상품 ID 순으로 상위 limit 개
+    public List<ProductMenuDto> search(String query, int limit) {
+        QueryGrams grams = queryGrams(query);
+        if (grams.required().isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int minMatch = minMatch(grams.required().size());
+
+        lock.readLock().lock();
+        try {
+            Scratch s = scratch.get();
+            s.ensureCapacity(docs.size());
+            try {
+                for (String gram : grams.required()) {
+                    count(namePostings.get(gram), s.nameHits, s);
+                    count(descriptionPostings.get(gram), s.descriptionHits, s);
+                }
+                // 단어 시작 gram 은 이미 후보인 문서의 이름에만 더한다
+                for (String gram : grams.bonus()) {
+                    countBonus(namePostings.get(gram), s);
+                }
+                return top(s, minMatch, limit);
+            } finally {
+                s.reset();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 오타 허용 개수: 질의가 길수록 더 허용 (자모 하나가 틀리면 3-gram 은 최대 3개 깨진다)
+    static int minMatch(int gramCount) {
+        int typos = gramCount >= 12 ? 2 : gramCount >= 5 ? 1 : 0;
+        return Math.max(1, gramCount - GRAM * typos);
+    }
+
+    private void count(IntList postings, int[] hits, Scratch s) {
+        if (postings == null) {
+            return;
+        }
+        for (int i = 0; i < postings.size; i++) {
+            int doc = postings.values[i];
+            if (docs.get(doc) == null) {
+                continue;
+            }
+            if (!s.isCandidate(doc)) {
+                s.touched.add(doc);
+            }
+            hits[doc]++;
+        }
+    }
+
+    private void countBonus(IntList postings, Scratch s) {
+        if (postings == null) {
+            return;
+        }
+        for (int i = 0; i < postings.size; i++) {
+            int doc = postings.values[i];
+            if (s.isCandidate(doc)) {
+                s.bonusHits[doc]++;
+            }
+        }
+    }
+
+    private List<ProductMenuDto> top(Scratch s, int minMatch, int limit) {
+        Comparator<Integer> order = (a, b) -> compare(s, a, b);
+        // 크기 limit 의 최소 힙으로 상위만 남긴다 (힙이 찼으면 최솟값보다 나은 문서만 넣는다)
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, order);
+        for (int i = 0; i < s.touched.size; i++) {
+            int doc = s.touched.values[i];
+            if (s.nameHits[doc] < minMatch && s.descriptionHits[doc] < minMatch) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(doc);
+            } else if (compare(s, doc, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(doc);
+            }
+        }
+        List<Integer> ranked = new ArrayList<>(heap);
+        ranked.sort(order.reversed());
+        return ranked.stream().map(docs::get).toList();
+    }
+
+    // 점수가 높을수록, 이름이 짧을수록, 상품 ID 가 작을수록 앞선다 (앞서는 쪽이 크다)
+    private int compare(Scratch s, int a, int b) {
+        int byScore = Integer.compare(score(s, a), score(s, b));
+        if (byScore != 0) {
+            return byScore;
+        }
+        ProductMenuDto docA = docs.get(a);
+        ProductMenuDto docB = docs.get(b);
+        int byLength = Integer.compare(docB.productName().length(), docA.productName().length());
+        return byLength != 0 ? byLength : Long.compare(docB.productId(), docA.productId());
+    }
+
+    private static int score(Scratch s, int doc) {
+        return (s.nameHits[doc] + s.bonusHits[doc]) * NAME_WEIGHT + s.descriptionHits[doc];
+    }
+
+    private void add(ProductMenuDto product) {
+        int doc = docs.size();
+        docs.add(product);
+        docIds.put(product.productId(), doc);
+        grams(product.productName()).forEach(gram -> namePostings.computeIfAbsent(gram, g -> new IntList()).add(doc));
+        grams(product.description()).forEach(gram -> descriptionPostings.computeIfAbsent(gram, g -> new IntList()).add(doc));
+    }
+
+    private void markDeleted(Long productId) {
+        Integer doc = docIds.remove(productId);
+        if (doc != null) {
+            docs.set(doc, null);
+            deadDocs++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadDocs >= COMPACT_MIN_DEAD && deadDocs > docIds.size()) {
+            List<ProductMenuDto> live = docs.stream().filter(Objects::nonNull).toList();
+            clear();
+            live.forEach(this::add);
+        }
+    }
+
+    private void clear() {
+        docs.clear();
+        docIds.clear();
+        namePostings.clear();
+        descriptionPostings.clear();
+        deadDocs = 0;
+    }
+
+    // 색인할 gram: 단어별 자모 3-gram + 단어 첫 2자 (중복 제거, '^' 포함 3자 이하인 단어는 단어 전체가 gram 하나)
+    static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        forEachWord(text, word -> {
+            if (word.length() <= GRAM) {
+                grams.add(word);
+                return;
+            }
+            // 자모 하나만 입력한 질의 ("ㅇ" → "^ㅇ") 도 단어 시작과 맞도록
+            grams.add(word.substring(0, 2));
+            for (int i = 0; i + GRAM <= word.length(); i++) {
+                grams.add(word.substring(i, i + GRAM));
+            }
+        });
+        return grams;
+    }
+
+    // 질의 gram: 단어 시작('^') gram 은 점수만 더하고, 나머지 gram 으로 후보를 거른다
+    // (붙여 쓴 합성어의 중간도 맞도록: "라떼" → "카페라떼")
+    static QueryGrams queryGrams(String query) {
+        Set<String> required = new LinkedHashSet<>();
+        Set<String> bonus = new LinkedHashSet<>();
+        forEachWord(query, word -> {
+            if (word.length() <= GRAM) {
+                required.add(word);
+                return;
+            }
+            bonus.add(word.substring(0, 2));
+            bonus.add(word.substring(0, GRAM));
+            for (int i = 1; i + GRAM <= word.length(); i++) {
+                required.add(word.substring(i, i + GRAM));
+            }
+        });
+        return new QueryGrams(List.copyOf(required), List.copyOf(bonus));
+    }
+
+    record QueryGrams(List<String> required, List<String> bonus) {
+    }
+
+    // 단어 (글자/숫자 연속) 마다 '^' + 자모열을 넘긴다
+    // NFKC 는 낱자 자모(ㅇ)를 첫가끝 자모로 바꿔 버리므로 NFC 로 음절만 합친다
+    private static void forEachWord(String text, Consumer<String> action) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (word.isEmpty()) {
+                    word.append(WORD_START);
+                }
+                appendJamo(word, c);
+            } else if (!word.isEmpty()) {
+                action.accept(word.toString());
+                word.setLength(0);
+            }
+        }
+    }
+
+    private static void appendJamo(StringBuilder out, char c) {
+        if (c >= '가' && c <= '힣') {
+            int index = c - '가';
+            out.append(CHO[index / 588]).append(JUNG[index % 588 / 28]).append(JONG[index % 28]);
+            return;
+        }
+        String compound = COMPOUND_JAMO.get(c);
+        if (compound != null) {
+            out.append(compound);
+        } else {
+            out.append(c);
+        }
+    }
+
+    // 박싱 없는 int 목록
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    private static final class Scratch {
+        private int[] nameHits = new int[0];
+        private int[] descriptionHits = new int[0];
+        private int[] bonusHits = new int[0];
+        private final IntList touched = new IntList();
+
+        private void ensureCapacity(int docCount) {
+            if (nameHits.length < docCount) {
+                nameHits = new int[docCount];
+                descriptionHits = new int[docCount];
+                bonusHits = new int[docCount];
+            }
+        }
+
+        private boolean isCandidate(int doc) {
+            return nameHits[doc] != 0 || descriptionHits[doc] != 0;
+        }
+
+        // 이번 질의에서 건드린 칸만 0 으로 되돌린다
+        private void reset() {
+            for (int i = 0; i < touched.size; i++) {
+                nameHits[touched.values[i]] = 0;
+                descriptionHits[touched.values[i]] = 0;
+                bonusHits[touched.values[i]] = 0;
+            }
+            touched.size = 0;
+        }
+    }
+}
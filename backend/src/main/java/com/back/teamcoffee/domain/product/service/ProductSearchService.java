@@ -0,0 +1,122 @@
+package com.back.teamcoffee.domain.product.service;
+
+import com.back.teamcoffee.domain.product.dto.ProductChangedEventDto;
+import com.back.teamcoffee.domain.product.dto.ProductMenuDto;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.global.exception.BadRequestException;
+import com.back.teamcoffee.global.rsdata.RsData;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 상품 검색: 메모리 역색인(ProductSearchIndex)만 읽는다 (DB 조회 없음)
+// - 기동 시 전체 색인, 등록/수정/삭제는 커밋 후 이벤트로 한 건씩 반영
+// - 다른 인스턴스에서 바뀐 상품도 따라가도록 rebuild-interval 마다 전체를 다시 읽는다
+@Slf4j
+@Service
+public class ProductSearchService implements DisposableBean {
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_LIMIT = 100;
+
+    private final ProductRepository productRepository;
+    // 복제 지연으로 방금 반영한 변경이 되돌아가지 않도록 재색인은 쓰기 DB 에서 읽는다
+    private final TransactionTemplate writeTx;
+    private final ProductSearchIndex index = new ProductSearchIndex();
+    private final ScheduledExecutorService scheduler;
+
+    private final Object changeLock = new Object();
+    // 재색인 중에 커밋된 변경 (읽어 온 목록에 빠졌을 수 있으므로 교체 후 다시 적용), 재색인 중이 아니면 null
+    private List<ProductChangedEventDto> changedDuringRebuild;
+
+    public ProductSearchService(ProductRepository productRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.products.search.rebuild-interval:10m}") Duration rebuildInterval) {
+        this.productRepository = productRepository;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("product-search").daemon().factory());
+        this.scheduler.scheduleWithFixedDelay(this::rebuildQuietly, rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public RsData<List<ProductMenuDto>> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("검색어를 입력해 주세요.");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new BadRequestException("검색어는 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return RsData.of("200-OK", "상품 검색 성공", index.search(query, size));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuildQuietly();
+    }
+
+    // 전체 재색인, 색인한 상품 수 반환
+    public synchronized int rebuild() {
+        synchronized (changeLock) {
+            changedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            List<ProductMenuDto> products = writeTx.execute(status -> productRepository.findAll().stream()
+                    .map(ProductMenuDto::from)
+                    .toList());
+            synchronized (changeLock) {
+                index.replaceAll(products);
+                changedDuringRebuild.forEach(this::apply);
+            }
+            return products.size();
+        } finally {
+            synchronized (changeLock) {
+                changedDuringRebuild = null;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEventDto event) {
+        synchronized (changeLock) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event);
+            }
+            apply(event);
+        }
+    }
+
+    private void apply(ProductChangedEventDto event) {
+        if (event.product() == null) {
+            index.remove(event.productId());
+        } else {
+            index.put(event.product());
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            int indexed = rebuild();
+            log.debug("상품 검색 재색인: products={}", indexed);
+        } catch (RuntimeException e) {
+            log.warn("상품 검색 재색인 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
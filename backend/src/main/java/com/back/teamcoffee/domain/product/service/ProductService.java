@@ -1,36 +1,74 @@
 package com.back.teamcoffee.domain.product.service;
 
+import com.back.teamcoffee.domain.product.dto.ProductChangedEventDto;
 import com.back.teamcoffee.domain.product.dto.ProductDto;
 import com.back.teamcoffee.domain.product.dto.ProductMenuDto;
 import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.entity.ProductImage;
+import com.back.teamcoffee.domain.product.repository.ProductImageRepository;
 import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.global.cache.CacheConfig;
+import com.back.teamcoffee.global.datasource.ReadYourWritesTracker;
 import com.back.teamcoffee.global.exception.DataNotFoundException;
+import com.back.teamcoffee.global.exception.OutOfStockException;
+import com.back.teamcoffee.global.metrics.MetricsConfig;
 import com.back.teamcoffee.global.rsdata.RsData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 @AllArgsConstructor
 public class ProductService {
+    // 상품 변경 직후에는 캐시를 다시 채우는 조회도 쓰기 DB 에서 읽는다 (복제 지연된 목록이 캐시에 남지 않게)
+    private static final String WRITE_SCOPE = "products";
+
     private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ObjectMapper objectMapper;
+    private final ReadYourWritesTracker readYourWrites;
+    // 등록/수정/삭제는 커밋 후 ProductSearchService 가 검색 색인에 반영하고, 상품 캐시도 커밋 후에 비운다
+    private final ApplicationEventPublisher eventPublisher;
+
+    // @CacheEvict 를 @Transactional 메서드에 함께 달면 둘의 실행 순서가 정해져 있지 않아 커밋 전에 비워질 수 있다
+    // (그 사이 조회가 커밋 전 데이터로 캐시를 다시 채움) → 변경 이벤트를 커밋 후에 받아 비운다
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = {CacheConfig.PRODUCT_MENU, CacheConfig.PRODUCT_LIST}, allEntries = true)
+    public void onProductChanged(ProductChangedEventDto event) {
+    }
 
+    @Transactional
     public RsData<ProductDto> createProduct(ProductDto dto) {
+        // 이미지는 상품 ID 가 생긴 뒤 applyImage 로 반영
         Product product = Product.builder()
                 .productName(dto.productName())
                 .price(dto.price())
                 .description(dto.description())
                 .orderCount(dto.orderCount())
-                .productImage(dto.productImage())
                 .stock(dto.stock())
                 .createdAt(LocalDateTime.now())
                 .build();
 
         Product saved = productRepository.save(product);
+        applyImage(saved, dto.productImage());
+        readYourWrites.recordWrite(WRITE_SCOPE);
+        eventPublisher.publishEvent(ProductChangedEventDto.saved(ProductMenuDto.from(saved)));
 
         return RsData.of("201-CREATED", "상품 등록 성공", ProductDto.from(saved));
     }
@@ -45,6 +83,13 @@ public class ProductService {
         return RsData.of("200-OK", "상품 조회 성공", dtoList);
     }
 
+    // 캐시에는 직렬화된 JSON 바이트를 저장해 재요청 시 DB 조회와 Jackson 직렬화를 모두 생략
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_LIST, key = "'all'")
+    public byte[] getProductListJson() {
+        return readYourWrites.read(WRITE_SCOPE, () -> toJson(getProductList()));
+    }
+
+    @Transactional
     public RsData<Void> deleteProduct(Long id) {
         Optional<Product> productOpt = productRepository.findById(id);
 
@@ -52,12 +97,15 @@ public class ProductService {
             throw new DataNotFoundException("존재하지 않는 상품입니다.");
         }
 
+        productImageRepository.deleteById(id);
         productRepository.deleteById(id);
+        readYourWrites.recordWrite(WRITE_SCOPE);
+        eventPublisher.publishEvent(ProductChangedEventDto.deleted(id));
         return RsData.of("200-OK", "상품 삭제 성공");
     }
 
     public RsData<ProductDto> getProductById(Long id) {
-        Optional<Product> productOpt = productRepository.findById(id);
+        Optional<Product> productOpt = readYourWrites.read(WRITE_SCOPE, () -> productRepository.findById(id));
 
         if (productOpt.isEmpty()) {
             throw new DataNotFoundException("존재하지 않는 상품입니다.");
@@ -68,6 +116,7 @@ public class ProductService {
         return RsData.of("200-OK", "상품 조회 성공", ProductDto.from(product));
     }
 
+    @Transactional
     public RsData<ProductDto> updateProduct(Long id, ProductDto productDto) {
         Optional<Product> productOpt = productRepository.findById(id);
 
@@ -79,11 +128,19 @@ public class ProductService {
         product.setProductName(productDto.productName());
         product.setPrice(productDto.price());
         product.setDescription(productDto.description());
-        product.setOrderCount(productDto.orderCount());
-        product.setProductImage(productDto.productImage());
-        product.setStock(productDto.stock());
+        applyImage(product, productDto.productImage());
 
-        Product updatedProduct = productRepository.save(product);
+        // orderCount 는 인기 상품 집계가 누적하는 값이라 요청 값을 쓰지 않는다
+        // 재고는 지금 읽은 값과의 차이만 조건부 UPDATE 로 더해 그 사이 주문이 차감한 재고를 되살리지 않는다
+        int stockDelta = productDto.stock() - product.getStock();
+        if (stockDelta != 0 && productRepository.adjustStock(id, stockDelta) == 0) {
+            throw new OutOfStockException(product.getProductName());
+        }
+
+        // adjustStock 이 영속성 컨텍스트를 비우므로 다시 읽는다 (이름/가격 변경은 그 전에 flush 됨)
+        Product updatedProduct = productRepository.findById(id).orElseThrow();
+        readYourWrites.recordWrite(WRITE_SCOPE);
+        eventPublisher.publishEvent(ProductChangedEventDto.saved(ProductMenuDto.from(updatedProduct)));
 
         return RsData.of("200-OK", "상품 정보 수정 성공", ProductDto.from(updatedProduct));
     }
@@ -97,4 +154,54 @@ public class ProductService {
 
         return RsData.of("200-OK", "상품 메뉴 조회 성공", result);
     }
+
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_MENU, key = "'all'")
+    public byte[] getMenuJson() {
+        return readYourWrites.read(WRITE_SCOPE, () -> toJson(getMenu()));
+    }
+
+    // 주문 수량 누적분을 상품별 UPDATE 로 한 트랜잭션에 반영 (ProductLeaderboardService 가 주기적으로 호출)
+    // 반환값은 반영하지 못한 (삭제된) 상품 ID
+    // orderCount 만 바뀌므로 캐시는 비우지 않는다: 캐시된 목록의 orderCount 는 캐시 만료(spring.cache 의 expireAfterWrite)까지 늦게 보인다
+    // 사용자 쓰기가 아닌 배경 집계라 recordWrite 도 하지 않는다 (매 주기 상품 조회가 쓰기 DB 로 고정되지 않게)
+    @Transactional
+    public Set<Long> addOrderCounts(Map<Long, Long> deltas) {
+        Set<Long> missing = new HashSet<>();
+        deltas.forEach((productId, delta) -> {
+            if (productRepository.increaseOrderCount(productId, Math.toIntExact(delta)) == 0) {
+                missing.add(productId);
+            }
+        });
+        return missing;
+    }
+
+    public ProductImage getProductImage(Long id) {
+        return productImageRepository.findById(id)
+                .orElseThrow(() -> new DataNotFoundException("존재하지 않는 상품 이미지입니다."));
+    }
+
+    // data URI 이미지는 product_image 테이블에 따로 저장하고 상품에는 content-hash URL 만 남긴다
+    private void applyImage(Product product, String image) {
+        if (image != null && image.equals(product.getProductImage())) {
+            // 조회 응답의 이미지 URL 을 그대로 다시 보낸 경우 기존 이미지 유지
+            return;
+        }
+
+        if (image == null || !ProductImage.isInline(image)) {
+            productImageRepository.deleteById(product.getProductId());
+            product.setProductImage(image);
+            return;
+        }
+
+        ProductImage productImage = productImageRepository.save(ProductImage.of(product.getProductId(), image));
+        product.setProductImage(productImage.getImageUrl());
+    }
+
+    private byte[] toJson(RsData<?> rsData) {
+        try {
+            return objectMapper.writeValueAsBytes(rsData);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 목록 직렬화 실패", e);
+        }
+    }
 }
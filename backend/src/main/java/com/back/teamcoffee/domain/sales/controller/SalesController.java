@@ -0,0 +1,52 @@
+package com.back.teamcoffee.domain.sales.controller;
+
+import com.back.teamcoffee.domain.sales.dto.DailySalesDto;
+import com.back.teamcoffee.domain.sales.dto.ProductSalesDto;
+import com.back.teamcoffee.domain.sales.dto.SalesBackfillResultDto;
+import com.back.teamcoffee.domain.sales.service.SalesRollupService;
+import com.back.teamcoffee.global.rsdata.RsData;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/sales")
+@RequiredArgsConstructor
+@Tag(name = "SalesController", description = "API 매출 집계 컨트롤러 (관리자)")
+public class SalesController {
+    private final SalesRollupService salesRollupService;
+
+    // 일별 매출 (주문 수 / 판매 수량 / 매출), 날짜순
+    @GetMapping("/daily")
+    @Operation(summary = "일별 매출 조회")
+    public ResponseEntity<RsData<List<DailySalesDto>>> getDailySales(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesRollupService.getDailySales(from, to));
+    }
+
+    // 기간 내 상품별 매출, 매출순 상위 limit 개
+    @GetMapping("/products")
+    @Operation(summary = "상품별 매출 조회")
+    public ResponseEntity<RsData<List<ProductSalesDto>>> getTopProducts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(salesRollupService.getTopProducts(from, to, limit));
+    }
+
+    // 원본 주문에서 기간 집계를 다시 계산 (하루 단위 트랜잭션)
+    @PostMapping("/backfill")
+    @Operation(summary = "매출 재집계")
+    public ResponseEntity<RsData<SalesBackfillResultDto>> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(salesRollupService.backfill(from, to));
+    }
+}
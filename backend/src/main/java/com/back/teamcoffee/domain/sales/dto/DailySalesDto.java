@@ -0,0 +1,21 @@
+package com.back.teamcoffee.domain.sales.dto;
+
+import com.back.teamcoffee.domain.sales.entity.DailySales;
+
+import java.time.LocalDate;
+
+public record DailySalesDto(
+        LocalDate salesDate,
+        long orderCount,
+        long units,
+        long revenue
+) {
+    public static DailySalesDto from(DailySales dailySales) {
+        return new DailySalesDto(
+                dailySales.getSalesDate(),
+                dailySales.getOrderCount(),
+                dailySales.getUnits(),
+                dailySales.getRevenue()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.teamcoffee.domain.sales.dto;
+
+// 상품별 매출 합계 (JPQL 생성자 projection, 삭제된 상품은 productName 이 null)
+public record ProductSalesDto(
+        Long productId,
+        String productName,
+        Long orderCount,
+        Long units,
+        Long revenue
+) {
+}
@@ -0,0 +1,11 @@
+package com.back.teamcoffee.domain.sales.dto;
+
+import java.time.LocalDate;
+
+// 재집계한 기간과 일수
+public record SalesBackfillResultDto(
+        LocalDate from,
+        LocalDate to,
+        int days
+) {
+}
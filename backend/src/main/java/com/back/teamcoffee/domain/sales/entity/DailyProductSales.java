@@ -0,0 +1,34 @@
+package com.back.teamcoffee.domain.sales.entity;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 일별 상품별 매출 집계 (상품이 포함된 주문 수 / 판매 수량 / 매출)
+// 상품이 삭제되어도 집계는 남도록 Product 와 연관관계를 두지 않는다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyProductSales {
+
+    @EmbeddedId
+    private DailyProductSalesId id;
+
+    private long orderCount;
+
+    private long units;
+
+    private long revenue;
+
+    public DailyProductSales(DailyProductSalesId id) {
+        this.id = id;
+    }
+
+    public void add(long orderCount, long units, long revenue) {
+        this.orderCount += orderCount;
+        this.units += units;
+        this.revenue += revenue;
+    }
+}
@@ -0,0 +1,12 @@
+package com.back.teamcoffee.domain.sales.entity;
+
+import jakarta.persistence.Embeddable;
+
+import java.time.LocalDate;
+
+@Embeddable
+public record DailyProductSalesId(
+        LocalDate salesDate,
+        Long productId
+) {
+}
@@ -0,0 +1,35 @@
+package com.back.teamcoffee.domain.sales.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 일별 매출 집계 (주문 수 / 판매 수량 / 매출)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailySales {
+
+    @Id
+    private LocalDate salesDate;
+
+    private long orderCount;
+
+    private long units;
+
+    private long revenue;
+
+    public DailySales(LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+
+    public void add(long orderCount, long units, long revenue) {
+        this.orderCount += orderCount;
+        this.units += units;
+        this.revenue += revenue;
+    }
+}
@@ -0,0 +1,41 @@
+package com.back.teamcoffee.domain.sales.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 주문 생성/삭제와 같은 트랜잭션에 쌓는 매출 증감분 (SalesRollupService 가 모아서 집계 테이블에 반영 후 삭제)
+// 주문 트랜잭션은 INSERT 만 하므로 인기 상품의 집계 행을 두고 경합하지 않는다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SalesOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sales_outbox_seq_generator")
+    @SequenceGenerator(name = "sales_outbox_seq_generator", sequenceName = "sales_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate salesDate;
+
+    // null 이면 일별 합계(DailySales) 증감분, 아니면 상품별(DailyProductSales) 증감분
+    private Long productId;
+
+    private int orderCount;
+
+    private int units;
+
+    private long revenue;
+
+    public SalesOutbox(LocalDate salesDate, Long productId, int orderCount, int units, long revenue) {
+        this.salesDate = salesDate;
+        this.productId = productId;
+        this.orderCount = orderCount;
+        this.units = units;
+        this.revenue = revenue;
+    }
+}
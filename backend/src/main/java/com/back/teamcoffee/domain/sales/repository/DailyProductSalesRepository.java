@@ -0,0 +1,31 @@
+package com.back.teamcoffee.domain.sales.repository;
+
+import com.back.teamcoffee.domain.sales.dto.ProductSalesDto;
+import com.back.teamcoffee.domain.sales.entity.DailyProductSales;
+import com.back.teamcoffee.domain.sales.entity.DailyProductSalesId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, DailyProductSalesId> {
+
+    // 기간 내 상품별 합계, 매출순 (상품명만 product 에서 가져오고 주문 테이블은 보지 않는다)
+    @Query("""
+            SELECT new com.back.teamcoffee.domain.sales.dto.ProductSalesDto(
+                s.id.productId, p.productName, SUM(s.orderCount), SUM(s.units), SUM(s.revenue))
+            FROM DailyProductSales s LEFT JOIN Product p ON p.productId = s.id.productId
+            WHERE s.id.salesDate BETWEEN :from AND :to
+            GROUP BY s.id.productId, p.productName
+            ORDER BY SUM(s.revenue) DESC, s.id.productId
+            """)
+    List<ProductSalesDto> findTopProducts(@Param("from") LocalDate from, @Param("to") LocalDate to, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DailyProductSales s WHERE s.id.salesDate = :salesDate")
+    int deleteBySalesDate(@Param("salesDate") LocalDate salesDate);
+}
@@ -0,0 +1,19 @@
+package com.back.teamcoffee.domain.sales.repository;
+
+import com.back.teamcoffee.domain.sales.entity.DailySales;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailySalesRepository extends JpaRepository<DailySales, LocalDate> {
+
+    List<DailySales> findBySalesDateBetweenOrderBySalesDate(LocalDate from, LocalDate to);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DailySales d WHERE d.salesDate = :salesDate")
+    int deleteBySalesDate(@Param("salesDate") LocalDate salesDate);
+}
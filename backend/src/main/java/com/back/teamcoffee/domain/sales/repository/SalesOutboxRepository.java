@@ -0,0 +1,25 @@
+package com.back.teamcoffee.domain.sales.repository;
+
+import com.back.teamcoffee.domain.sales.entity.SalesOutbox;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SalesOutboxRepository extends JpaRepository<SalesOutbox, Long> {
+
+    // 먼저 쌓인 순서로 잠가서 가져온다 (여러 인스턴스가 동시에 반영해도 같은 행을 두 번 집계하지 않게)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SalesOutbox s ORDER BY s.id")
+    List<SalesOutbox> findChunkForUpdate(Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SalesOutbox s WHERE s.salesDate = :salesDate")
+    int deleteBySalesDate(@Param("salesDate") LocalDate salesDate);
+}
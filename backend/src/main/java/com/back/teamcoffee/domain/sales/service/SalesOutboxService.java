@@ -0,0 +1,42 @@
+package com.back.teamcoffee.domain.sales.service;
+
+import com.back.teamcoffee.domain.order.order.entity.Order;
+import com.back.teamcoffee.domain.order.orderItem.entity.OrderItem;
+import com.back.teamcoffee.domain.sales.entity.SalesOutbox;
+import com.back.teamcoffee.domain.sales.repository.SalesOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 주문 생성/삭제 트랜잭션 안에서 호출해 매출 증감분을 outbox 에 남긴다
+// 주문 하나당 일별 합계 1행 + 아이템 수만큼 상품별 행 (JDBC batch 로 주문 INSERT 와 함께 나간다)
+@Service
+@RequiredArgsConstructor
+public class SalesOutboxService {
+    private final SalesOutboxRepository salesOutboxRepository;
+
+    public void recordCreated(List<Order> orders) {
+        salesOutboxRepository.saveAll(deltas(orders, 1));
+    }
+
+    public void recordDeleted(Order order) {
+        salesOutboxRepository.saveAll(deltas(List.of(order), -1));
+    }
+
+    private List<SalesOutbox> deltas(List<Order> orders, int sign) {
+        List<SalesOutbox> rows = new ArrayList<>();
+        for (Order order : orders) {
+            // 매출일은 주문 생성 시각 기준 (삭제도 생성일의 매출에서 뺀다)
+            LocalDate salesDate = order.getCreatedAt().toLocalDate();
+            rows.add(new SalesOutbox(salesDate, null, sign, sign * order.getOrderCount(), (long) sign * order.getTotalPrice()));
+            for (OrderItem item : order.getOrderItems()) {
+                rows.add(new SalesOutbox(salesDate, item.getProduct().getProductId(),
+                        sign, sign * item.getOrderCount(), (long) sign * item.getTotalPrice()));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,265 @@
+package com.back.teamcoffee.domain.sales.service;
+
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.order.orderItem.repository.OrderItemRepository;
+import com.back.teamcoffee.domain.sales.dto.DailySalesDto;
+import com.back.teamcoffee.domain.sales.dto.ProductSalesDto;
+import com.back.teamcoffee.domain.sales.dto.SalesBackfillResultDto;
+import com.back.teamcoffee.domain.sales.entity.DailyProductSales;
+import com.back.teamcoffee.domain.sales.entity.DailyProductSalesId;
+import com.back.teamcoffee.domain.sales.entity.DailySales;
+import com.back.teamcoffee.domain.sales.entity.SalesOutbox;
+import com.back.teamcoffee.domain.sales.repository.DailyProductSalesRepository;
+import com.back.teamcoffee.domain.sales.repository.DailySalesRepository;
+import com.back.teamcoffee.domain.sales.repository.SalesOutboxRepository;
+import com.back.teamcoffee.global.exception.BadRequestException;
+import com.back.teamcoffee.global.metrics.MetricsConfig;
+import com.back.teamcoffee.global.rsdata.RsData;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 매출 집계: outbox 증감분을 주기적으로 일별/상품별 집계 테이블에 반영하고, 조회는 집계 테이블만 읽는다
+// 집계는 최대 interval 만큼 늦을 수 있다
+// 주기 반영은 SmartLifecycle 로 컨텍스트가 뜬 뒤 시작하고 종료 때 멈춘다 (enabled: false 면 시작하지 않고 drainOutbox 를 직접 호출)
+@Slf4j
+@Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class SalesRollupService implements SmartLifecycle {
+    // 재집계 한 번에 허용하는 최대 일수
+    private static final int MAX_BACKFILL_DAYS = 366;
+    // 하루 재집계가 동시 반영과 부딪혀 직렬화 실패했을 때 다시 시도하는 횟수
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    private final SalesOutboxRepository salesOutboxRepository;
+    private final DailySalesRepository dailySalesRepository;
+    private final DailyProductSalesRepository dailyProductSalesRepository;
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final TransactionTemplate writeTx;
+    private final TransactionTemplate readTx;
+    // 재집계는 REPEATABLE READ: outbox 삭제와 원본 합계가 같은 스냅샷을 보므로
+    // 그 사이 커밋된 주문은 합계에도 빠지고 outbox 에도 남아 다음 반영 때 한 번만 더해진다
+    private final TransactionTemplate rebuildTx;
+    private final int chunkSize;
+    private final boolean enabled;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public SalesRollupService(SalesOutboxRepository salesOutboxRepository,
+                              DailySalesRepository dailySalesRepository,
+                              DailyProductSalesRepository dailyProductSalesRepository,
+                              OrderRepository orderRepository,
+                              OrderItemRepository orderItemRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.sales.rollup.enabled:true}") boolean enabled,
+                              @Value("${app.sales.rollup.interval:10s}") Duration interval,
+                              @Value("${app.sales.rollup.chunk-size:1000}") int chunkSize) {
+        this.salesOutboxRepository = salesOutboxRepository;
+        this.dailySalesRepository = dailySalesRepository;
+        this.dailyProductSalesRepository = dailyProductSalesRepository;
+        this.orderRepository = orderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.rebuildTx = new TransactionTemplate(transactionManager);
+        this.rebuildTx.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.chunkSize = chunkSize;
+        this.enabled = enabled;
+        this.interval = interval;
+    }
+
+    // outbox 가 빌 때까지 chunk-size 건씩 반영 (chunk 하나가 트랜잭션 하나), 반영한 행 수 반환
+    public int drainOutbox() {
+        int total = 0;
+        int drained;
+        do {
+            drained = writeTx.execute(status -> drainChunk());
+            total += drained;
+        } while (drained == chunkSize);
+        return total;
+    }
+
+    private void drainQuietly() {
+        try {
+            int drained = drainOutbox();
+            if (drained > 0) {
+                log.debug("매출 집계 반영: rows={}", drained);
+            }
+        } catch (RuntimeException e) {
+            log.warn("매출 집계 반영 실패 (다음 주기에 재시도)", e);
+        }
+    }
+
+    private int drainChunk() {
+        List<SalesOutbox> chunk = salesOutboxRepository.findChunkForUpdate(PageRequest.of(0, chunkSize));
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDate, DailySales> days = dailySalesRepository.findAllById(chunk.stream()
+                        .filter(row -> row.getProductId() == null)
+                        .map(SalesOutbox::getSalesDate)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(DailySales::getSalesDate, Function.identity()));
+        Map<DailyProductSalesId, DailyProductSales> products = dailyProductSalesRepository.findAllById(chunk.stream()
+                        .filter(row -> row.getProductId() != null)
+                        .map(row -> new DailyProductSalesId(row.getSalesDate(), row.getProductId()))
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(DailyProductSales::getId, Function.identity()));
+        Map<LocalDate, DailySales> newDays = new HashMap<>();
+        Map<DailyProductSalesId, DailyProductSales> newProducts = new HashMap<>();
+
+        // 이미 있는 집계 행은 dirty checking 으로 UPDATE, 없던 행만 새로 저장
+        for (SalesOutbox row : chunk) {
+            if (row.getProductId() == null) {
+                DailySales daily = days.computeIfAbsent(row.getSalesDate(),
+                        date -> newDays.computeIfAbsent(date, DailySales::new));
+                daily.add(row.getOrderCount(), row.getUnits(), row.getRevenue());
+            } else {
+                DailyProductSalesId id = new DailyProductSalesId(row.getSalesDate(), row.getProductId());
+                DailyProductSales product = products.computeIfAbsent(id,
+                        key -> newProducts.computeIfAbsent(key, DailyProductSales::new));
+                product.add(row.getOrderCount(), row.getUnits(), row.getRevenue());
+            }
+        }
+        dailySalesRepository.saveAll(newDays.values());
+        dailyProductSalesRepository.saveAll(newProducts.values());
+        salesOutboxRepository.deleteAllByIdInBatch(chunk.stream().map(SalesOutbox::getId).toList());
+        return chunk.size();
+    }
+
+    // 원본 주문에서 하루씩 다시 집계 (하루가 트랜잭션 하나)
+    // 그날의 outbox 행도 지우므로, 재집계 이후 커밋된 주문의 증감분만 나중에 더해진다
+    public RsData<SalesBackfillResultDto> backfill(LocalDate from, LocalDate to) {
+        long days = validateRange(from, to);
+        if (days > MAX_BACKFILL_DAYS) {
+            throw new BadRequestException("재집계 기간은 " + MAX_BACKFILL_DAYS + "일 이하여야 합니다.");
+        }
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate salesDate = day;
+            rebuildWithRetry(salesDate);
+        }
+        log.info("매출 재집계: from={}, to={}, days={}", from, to, days);
+        return RsData.of("200-OK", "매출 재집계 성공", new SalesBackfillResultDto(from, to, (int) days));
+    }
+
+    private void rebuildWithRetry(LocalDate salesDate) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                rebuildTx.executeWithoutResult(status -> rebuild(salesDate));
+                return;
+            } catch (ConcurrencyFailureException e) {
+                // 같은 날의 outbox/집계 행을 drainOutbox 가 동시에 반영한 경우 → 새 스냅샷으로 다시
+                if (attempt == REBUILD_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("매출 재집계 직렬화 실패, 재시도: salesDate={}, attempt={}", salesDate, attempt);
+            }
+        }
+    }
+
+    private void rebuild(LocalDate salesDate) {
+        salesOutboxRepository.deleteBySalesDate(salesDate);
+        dailySalesRepository.deleteBySalesDate(salesDate);
+        dailyProductSalesRepository.deleteBySalesDate(salesDate);
+
+        LocalDateTime start = salesDate.atStartOfDay();
+        LocalDateTime end = salesDate.plusDays(1).atStartOfDay();
+        List<ProductSalesDto> rows = orderItemRepository.sumSalesByProduct(start, end);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        DailySales daily = new DailySales(salesDate);
+        daily.add(orderRepository.countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(start, end), 0, 0);
+        List<DailyProductSales> products = rows.stream()
+                .map(row -> {
+                    DailyProductSales product = new DailyProductSales(new DailyProductSalesId(salesDate, row.productId()));
+                    product.add(row.orderCount(), row.units(), row.revenue());
+                    daily.add(0, row.units(), row.revenue());
+                    return product;
+                })
+                .toList();
+        dailySalesRepository.save(daily);
+        dailyProductSalesRepository.saveAll(products);
+    }
+
+    public RsData<List<DailySalesDto>> getDailySales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        List<DailySalesDto> daily = readTx.execute(status -> dailySalesRepository.findBySalesDateBetweenOrderBySalesDate(from, to))
+                .stream()
+                .map(DailySalesDto::from)
+                .toList();
+        return RsData.of("200-OK", "일별 매출 조회 성공", daily);
+    }
+
+    public RsData<List<ProductSalesDto>> getTopProducts(LocalDate from, LocalDate to, int limit) {
+        validateRange(from, to);
+        int size = Math.min(Math.max(limit, 1), 100);
+        List<ProductSalesDto> products = readTx.execute(status -> dailyProductSalesRepository.findTopProducts(from, to, PageRequest.of(0, size)));
+        return RsData.of("200-OK", "상품별 매출 조회 성공", products);
+    }
+
+    private long validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("from 은 to 보다 늦을 수 없습니다.");
+        }
+        return ChronoUnit.DAYS.between(from, to) + 1;
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sales-rollup").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::drainQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    // 진행 중인 반영은 끝까지 하고 멈춘다 (남은 outbox 는 다음 기동 때 반영)
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+}
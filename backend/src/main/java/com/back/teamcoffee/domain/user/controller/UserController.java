@@ -1,12 +1,14 @@
 package com.back.teamcoffee.domain.user.controller;
 
 
+import com.back.teamcoffee.domain.user.dto.AuthTokensDto;
 import com.back.teamcoffee.domain.user.dto.LoginResultDto;
 import com.back.teamcoffee.domain.user.dto.UserLoginRequestDto;
 import com.back.teamcoffee.domain.user.dto.UserRegisterRequestDto;
 import com.back.teamcoffee.domain.user.service.UserService;
 import com.back.teamcoffee.global.rsdata.RsData;
 import com.back.teamcoffee.global.security.CookieUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
@@ -50,9 +52,23 @@ public class UserController {
                 .body(body);
     }
 
+    // 토큰 재발급 (RefreshToken 쿠키를 새 토큰 쌍으로 교체)
+    @PostMapping("/refresh")
+    public ResponseEntity<RsData<AuthTokensDto>> refresh(
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) {
+        RsData<AuthTokensDto> body = userService.refresh(CookieUtil.resolveToken(request, "RefreshToken"));
+        CookieUtil.addTokenCookies(body.data(), response);
+        return ResponseEntity
+                .status(body.statusCode())
+                .body(body);
+    }
+
     // 로그아웃
     @PostMapping("/logout")
-    public ResponseEntity<RsData<Void>> logout(HttpServletResponse response) {
+    public ResponseEntity<RsData<Void>> logout(HttpServletRequest request, HttpServletResponse response) {
+        userService.logout(CookieUtil.resolveToken(request, "AccessToken"), CookieUtil.resolveToken(request, "RefreshToken"));
         CookieUtil.deleteTokenCookies(response);
         return ResponseEntity.ok(RsData.of("200-LOGOUT", "로그아웃 되었습니다.", null));
     }
@@ -6,15 +6,24 @@ import com.back.teamcoffee.domain.user.entity.UserRole;
 import com.back.teamcoffee.domain.user.repository.UserRepository;
 import com.back.teamcoffee.global.exception.DataNotFoundException;
 import com.back.teamcoffee.global.exception.EmailExistException;
+import com.back.teamcoffee.global.metrics.MetricsConfig;
 import com.back.teamcoffee.global.rsdata.RsData;
+import com.back.teamcoffee.global.security.AuthUser;
 import com.back.teamcoffee.global.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.constraints.Email;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
@@ -57,6 +66,29 @@ public class UserService {
 
 
 
+    // 리프레시 토큰 회전: 서명/만료/폐기 여부만 확인하고 (DB 조회 없음) 새 토큰 쌍을 발급, 쓰인 토큰은 폐기
+    // 권한과 email 은 토큰의 클레임을 그대로 쓰므로 변경은 다음 로그인부터 반영된다
+    public RsData<AuthTokensDto> refresh(String refreshToken) {
+        Claims claims = Optional.ofNullable(refreshToken)
+                .flatMap(jwt::parseRefreshToken)
+                .orElseThrow(() -> new BadCredentialsException("리프레시 토큰이 유효하지 않습니다."));
+        // 같은 토큰으로 동시에 재발급하면 먼저 폐기한 요청만 성공
+        if (!jwt.revoke(claims)) {
+            throw new BadCredentialsException("이미 사용된 리프레시 토큰입니다.");
+        }
+
+        AuthUser user = jwt.toAuthUser(claims);
+        AuthTokensDto tokens = AuthTokensDto.of(jwt.createToken(user), jwt.createRefreshToken(user));
+        return RsData.of("200-OK", "토큰 재발급 성공", tokens);
+    }
+
+    // 로그아웃한 토큰은 쿠키를 지운 뒤에도 다시 쓰지 못하게 폐기
+    public void logout(String accessToken, String refreshToken) {
+        Stream.of(accessToken, refreshToken)
+                .filter(Objects::nonNull)
+                .forEach(jwt::revoke);
+    }
+
     public void deleteuser(@Email String email) {
         User user = userRepository.findByEmail(email).orElse(null);
 
@@ -66,10 +98,8 @@ public class UserService {
 
 
     private RsData<LoginResultDto> successResult(String code, String msg, User user) {
-        AuthTokensDto tokens = AuthTokensDto.of(
-                jwt.createToken(user.getId(), user.getRole()),
-                jwt.createRefreshToken(user.getId(), user.getRole())
-        );
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), user.getRole());
+        AuthTokensDto tokens = AuthTokensDto.of(jwt.createToken(authUser), jwt.createRefreshToken(authUser));
         LoginResultDto result = LoginResultDto.of(UserLoginResponseDto.from(user), tokens);
         return RsData.of(code, msg, result);
     }
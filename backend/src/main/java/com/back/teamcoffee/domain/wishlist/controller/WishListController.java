@@ -5,9 +5,12 @@ import com.back.teamcoffee.domain.wishlist.dto.WishListDto;
 import com.back.teamcoffee.domain.wishlist.dto.WishListUpdateDto;
 import com.back.teamcoffee.domain.wishlist.service.WishListService;
 import com.back.teamcoffee.global.rsdata.RsData;
+import com.back.teamcoffee.global.security.AuthUser;
+import com.back.teamcoffee.global.security.CurrentUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,8 +24,10 @@ public class WishListController {
     // 위시리스트 생성
     @PostMapping("/{email}")
     public ResponseEntity<RsData<WishListDto>> createWishList(
+            @CurrentUser AuthUser currentUser,
             @PathVariable String email,
             @RequestBody @Valid WishListCreateDto wishListCreateDto) {
+        checkOwner(currentUser, email);
         RsData<WishListDto> wishListDto = wishListService.create(email, wishListCreateDto);
         return ResponseEntity.status(201).body(wishListDto);
     }
@@ -30,7 +35,9 @@ public class WishListController {
     // 위시리스트 조회
     @GetMapping("/{email}")
     public ResponseEntity<RsData<List<WishListDto>>> getWishLists(
+            @CurrentUser AuthUser currentUser,
             @PathVariable String email) {
+        checkOwner(currentUser, email);
         RsData<List<WishListDto>> wishListDtos = wishListService.findAllByEmail(email);
         return ResponseEntity.ok(wishListDtos);
     }
@@ -38,9 +45,11 @@ public class WishListController {
     // 위시리스트 상품 수량 변경
     @PutMapping("/{email}/{wishId}")
     public ResponseEntity<RsData<WishListDto>> updateWishListQuantity(
+            @CurrentUser AuthUser currentUser,
             @PathVariable String email,
             @PathVariable Long wishId,
             @RequestBody @Valid WishListUpdateDto wishListUpdateDto) {
+        checkOwner(currentUser, email);
         RsData<WishListDto> result = wishListService.updateWishListQuantity(email, wishId, wishListUpdateDto);
         return ResponseEntity.ok(result);
     }
@@ -48,9 +57,18 @@ public class WishListController {
     // 위시리스트 삭제
     @DeleteMapping("/{email}/{wishId}")
     public ResponseEntity<RsData<Void>> deleteWishList(
+            @CurrentUser AuthUser currentUser,
             @PathVariable String email,
             @PathVariable Long wishId) {
-                RsData<Void> result = wishListService.deleteByEmailAndWishId(email, wishId);
-                return ResponseEntity.ok(result);
+        checkOwner(currentUser, email);
+        RsData<Void> result = wishListService.deleteByEmailAndWishId(email, wishId);
+        return ResponseEntity.ok(result);
+    }
+
+    // 경로의 email 은 토큰의 email 과 비교만 한다 (users 조회 없음). 관리자는 모든 위시리스트 접근 가능
+    private void checkOwner(AuthUser currentUser, String email) {
+        if (!currentUser.canAccess(email)) {
+            throw new AccessDeniedException("본인의 위시리스트만 접근할 수 있습니다.");
+        }
     }
 }
@@ -1,8 +1,13 @@
 package com.back.teamcoffee.domain.wishlist.repository;
 
+import com.back.teamcoffee.domain.wishlist.dto.WishListDto;
 import com.back.teamcoffee.domain.wishlist.entity.WishList;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +21,34 @@ public interface WishListRepository extends JpaRepository<WishList, Long> {
     Optional<WishList> findByEmailAndProductId(String email, Long productId);
 
     void deleteByEmailAndWishId(String email, Long wishId);
+
+    // 위시리스트와 상품을 한 번에 조인해서 DTO 로 조회 (행마다 상품을 따로 조회하지 않음)
+    @Query("""
+        SELECT new com.back.teamcoffee.domain.wishlist.dto.WishListDto(
+            w.wishId, p.productId, p.productName, p.price, w.email, w.quantity)
+        FROM WishList w
+        JOIN w.product p
+        WHERE w.email = :email
+        ORDER BY w.wishId
+        """)
+    List<WishListDto> findDtosByEmail(@Param("email") String email);
+
+    @Query("""
+        SELECT new com.back.teamcoffee.domain.wishlist.dto.WishListDto(
+            w.wishId, p.productId, p.productName, p.price, w.email, w.quantity)
+        FROM WishList w
+        JOIN w.product p
+        WHERE w.email = :email AND w.wishId = :wishId
+        """)
+    Optional<WishListDto> findDtoByEmailAndWishId(@Param("email") String email, @Param("wishId") Long wishId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WishList w SET w.quantity = :quantity WHERE w.email = :email AND w.wishId = :wishId")
+    int updateQuantity(@Param("email") String email, @Param("wishId") Long wishId, @Param("quantity") int quantity);
+
+    // 이미 담긴 상품이면 수량을 한 번의 UPDATE 로 더한다 (반환값이 0이면 아직 담기지 않은 상품)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WishList w SET w.quantity = w.quantity + :quantity WHERE w.email = :email AND w.productId = :productId")
+    int increaseQuantity(@Param("email") String email, @Param("productId") Long productId, @Param("quantity") int quantity);
 }
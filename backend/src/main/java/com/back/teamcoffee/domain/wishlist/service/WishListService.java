@@ -7,16 +7,21 @@ import com.back.teamcoffee.domain.wishlist.dto.WishListDto;
 import com.back.teamcoffee.domain.wishlist.dto.WishListUpdateDto;
 import com.back.teamcoffee.domain.wishlist.entity.WishList;
 import com.back.teamcoffee.domain.wishlist.repository.WishListRepository;
+import com.back.teamcoffee.global.datasource.ReadYourWritesTracker;
 import com.back.teamcoffee.global.exception.DataNotFoundException;
+import com.back.teamcoffee.global.metrics.MetricsConfig;
 import com.back.teamcoffee.global.rsdata.RsData;
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 @AllArgsConstructor
 public class WishListService {
 
@@ -31,26 +36,10 @@ public class WishListService {
         }
 
         Product product = productOpt.get();
-        
-        // 중복 체크: 이미 해당 상품이 위시리스트에 있는지 확인
-        Optional<WishList> existingWishList = wishListRepository.findByEmailAndProductId(email, product.getProductId());
-        
-        if (existingWishList.isPresent()) {
-            // 이미 존재하는 경우, 수량을 증가시킴
-            WishList wishList = existingWishList.get();
-            wishList.setQuantity(wishList.getQuantity() + wishListCreateDto.quantity());
-            WishList updated = wishListRepository.save(wishList);
-            
-            WishListDto wishListDto = new WishListDto(
-                    updated.getWishId(),
-                    product.getProductId(),
-                    product.getProductName(),
-                    product.getPrice(),
-                    updated.getEmail(),
-                    updated.getQuantity()
-            );
-            
-            return RsData.of("200-OK", "위시리스트 상품 수량이 증가되었습니다.", wishListDto);
+
+        // 이미 담긴 상품이면 수량을 증가시킴 (읽고 나서 저장하지 않으므로 동시 요청의 수량이 사라지지 않음)
+        if (wishListRepository.increaseQuantity(email, product.getProductId(), wishListCreateDto.quantity()) > 0) {
+            return increased(email, product);
         }
 
         // 새로운 위시리스트 항목 생성
@@ -59,7 +48,16 @@ public class WishListService {
         wishList.setEmail(email);
         wishList.setQuantity(wishListCreateDto.quantity());
 
-        WishList saved = wishListRepository.save(wishList);
+        WishList saved;
+        try {
+            saved = wishListRepository.save(wishList);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 상품을 담는 동시 요청이 먼저 INSERT 한 경우 (wish_list(email, product_id) unique), 그 행의 수량을 증가
+            if (wishListRepository.increaseQuantity(email, product.getProductId(), wishListCreateDto.quantity()) == 0) {
+                throw e;
+            }
+            return increased(email, product);
+        }
 
         WishListDto wishListDto = new WishListDto(
                 saved.getWishId(),
@@ -73,30 +71,51 @@ public class WishListService {
         return RsData.of("201-CREATED", "위시리스트에 상품이 추가되었습니다.", wishListDto);
     }
 
-    public RsData<List<WishListDto>> findAllByEmail(String email) {
-        List<WishListDto> wishListDtos = wishListRepository.findByEmail(email)
-                .stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+    // 방금 증가시킨 행이므로 복제 지연이 있는 읽기 DB 대신 쓰기 DB 에서 읽는다
+    private RsData<WishListDto> increased(String email, Product product) {
+        WishList updated = ReadYourWritesTracker.onPrimary(() -> wishListRepository.findByEmailAndProductId(email, product.getProductId()))
+                .orElseThrow(() -> new DataNotFoundException("존재하지 않는 위시리스트 항목입니다."));
 
-        return RsData.of("200-OK", "위시리스트 조회 성공", wishListDtos);
-            }
+        WishListDto wishListDto = new WishListDto(
+                updated.getWishId(),
+                product.getProductId(),
+                product.getProductName(),
+                product.getPrice(),
+                updated.getEmail(),
+                updated.getQuantity()
+        );
 
+        return RsData.of("200-OK", "위시리스트 상품 수량이 증가되었습니다.", wishListDto);
+    }
 
+    public RsData<List<WishListDto>> findAllByEmail(String email) {
+        List<WishListDto> wishListDtos = wishListRepository.findDtosByEmail(email);
 
+        return RsData.of("200-OK", "위시리스트 조회 성공", wishListDtos);
+    }
 
+    @Transactional
     public RsData<WishListDto> updateWishListQuantity(String email, Long wishId, WishListUpdateDto wishListUpdateDto) {
-        Optional<WishList> found = wishListRepository.findByEmailAndWishId(email, wishId);
+        Optional<WishListDto> found = wishListRepository.findDtoByEmailAndWishId(email, wishId);
 
         if(found.isEmpty()) {
             return  RsData.error("404-NOT_FOUND", "위시리스트가 존재하지 않습니다.");
         }
 
-        WishList wishList = found.get();
-        wishList.setQuantity(wishListUpdateDto.quantity());
-        WishList updatedWishList = wishListRepository.save(wishList);
+        // 엔티티를 다시 읽지 않고 수량만 갱신
+        wishListRepository.updateQuantity(email, wishId, wishListUpdateDto.quantity());
+
+        WishListDto wishListDto = found.get();
+        WishListDto updated = new WishListDto(
+                wishListDto.wishId(),
+                wishListDto.productId(),
+                wishListDto.productName(),
+                wishListDto.productPrice(),
+                wishListDto.email(),
+                wishListUpdateDto.quantity()
+        );
 
-        return RsData.of("200-OK", "위시리스트 수량이 업데이트되었습니다.", toDto(updatedWishList));
+        return RsData.of("200-OK", "위시리스트 수량이 업데이트되었습니다.", updated);
     }
 
     public RsData<Void> deleteByEmailAndWishId(String email, Long wishId) {
@@ -110,18 +129,4 @@ public class WishListService {
         wishListRepository.delete(wishList);
         return RsData.of("200-OK", "위시리스트 항목이 삭제되었습니다.", null);
     }
-
-    private WishListDto toDto(WishList wishList) {
-        Product product = productRepository.findById(wishList.getProductId())
-                .orElseThrow(() -> new DataNotFoundException("존재하지 않는 상품입니다."));
-
-        return new WishListDto(
-                wishList.getWishId(),
-                product.getProductId(),
-                product.getProductName(),
-                product.getPrice(),
-                wishList.getEmail(),
-                wishList.getQuantity()
-        );
-    }
 }
@@ -0,0 +1,12 @@
+package com.back.teamcoffee.global.cache;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// 캐시 구현체(Caffeine)와 크기/만료 정책은 application.yml 의 spring.cache 설정을 따른다
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String PRODUCT_MENU = "productMenu";
+    public static final String PRODUCT_LIST = "productList";
+}
@@ -0,0 +1,37 @@
+package com.back.teamcoffee.global.cache;
+
+import com.back.teamcoffee.global.rsdata.RsData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/admin/caches")
+@RequiredArgsConstructor
+public class CacheStatsController {
+    private final CacheManager cacheManager;
+
+    // 캐시별 적중/미스 통계 조회
+    @GetMapping
+    public ResponseEntity<RsData<List<CacheStatsDto>>> getCacheStats() {
+        List<CacheStatsDto> stats = cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(cache -> CacheStatsDto.of(
+                        cache.getName(),
+                        cache.getNativeCache().stats(),
+                        cache.getNativeCache().estimatedSize()))
+                .toList();
+
+        return ResponseEntity.ok(RsData.of("200-OK", "캐시 통계 조회 성공", stats));
+    }
+}
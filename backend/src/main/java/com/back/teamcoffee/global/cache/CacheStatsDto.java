@@ -0,0 +1,23 @@
+package com.back.teamcoffee.global.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public record CacheStatsDto(
+        String name,
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long estimatedSize
+) {
+    public static CacheStatsDto of(String name, CacheStats stats, long estimatedSize) {
+        return new CacheStatsDto(
+                name,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                estimatedSize
+        );
+    }
+}
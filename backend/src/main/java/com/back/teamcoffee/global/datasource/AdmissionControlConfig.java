@@ -0,0 +1,43 @@
+package com.back.teamcoffee.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+// app.datasource.admission.enabled=true 일 때 커넥션 풀을 AdmissionControlDataSource 로 감싼다
+// virtual 프로필(application-virtual.yml)에서 가상 스레드와 함께 켜진다
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.admission.enabled", havingValue = "true")
+public class AdmissionControlConfig {
+
+    @Bean
+    public static BeanPostProcessor admissionControlDataSourcePostProcessor(Environment env) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 라우팅 프록시가 아닌 실제 풀(쓰기/읽기) 각각에 풀 크기만큼의 허가를 둔다
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                Duration maxWait = env.getProperty("app.datasource.admission.max-wait", Duration.class, Duration.ofMinutes(2));
+                return new AdmissionControlDataSource(hikari, hikari.getPoolName(), hikari.getMaximumPoolSize(), maxWait);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder admissionControlMetrics(Map<String, DataSource> dataSources) {
+        return registry -> dataSources.values().stream()
+                .filter(AdmissionControlDataSource.class::isInstance)
+                .map(AdmissionControlDataSource.class::cast)
+                .forEach(admission -> admission.bindTo(registry));
+    }
+}
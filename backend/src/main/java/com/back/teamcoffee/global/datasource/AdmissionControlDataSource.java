@@ -0,0 +1,136 @@
+package com.back.teamcoffee.global.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 커넥션 풀 크기만큼의 허가(permit)로 커넥션 획득을 제한하는 DataSource
+// 풀보다 많은 요청은 HikariCP 의 connection-timeout 대신 여기 공정(FIFO) 세마포어에서 기다린다
+// 가상 스레드는 세마포어 대기 중 캐리어 스레드를 반납하므로 수천 개가 대기해도 비용이 작다
+public class AdmissionControlDataSource extends DelegatingDataSource implements MeterBinder {
+    private final String poolName;
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final Duration maxWait;
+
+    private Timer waitTimer;
+    private Counter rejected;
+
+    public AdmissionControlDataSource(DataSource target, String poolName, int maxPermits, Duration maxWait) {
+        super(target);
+        this.poolName = poolName;
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return admitted(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return admitted(() -> super.getConnection(username, password));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        waitTimer = Timer.builder("datasource.admission.wait")
+                .description("커넥션 획득 허가를 기다린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .tag("pool", poolName)
+                .register(registry);
+        rejected = Counter.builder("datasource.admission.rejected")
+                .description("대기 시간 초과로 거절된 커넥션 요청 수")
+                .tag("pool", poolName)
+                .register(registry);
+        Gauge.builder("datasource.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("허가를 기다리는 스레드 수")
+                .tag("pool", poolName)
+                .register(registry);
+        Gauge.builder("datasource.admission.in.use", permits, p -> maxPermits - p.availablePermits())
+                .description("사용 중인 허가 수")
+                .tag("pool", poolName)
+                .register(registry);
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 대기 중 인터럽트되었습니다.", e);
+        }
+        if (waitTimer != null) {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new SQLTransientConnectionException("커넥션 대기 시간(" + maxWait.toMillis() + "ms)을 초과했습니다.");
+        }
+    }
+
+    // 커넥션 획득에 실패하면 허가를 바로 돌려주고, 성공하면 close() 시점에 한 번만 돌려준다
+    private Connection admitted(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
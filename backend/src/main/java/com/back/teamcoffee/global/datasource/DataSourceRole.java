@@ -0,0 +1,6 @@
+package com.back.teamcoffee.global.datasource;
+
+public enum DataSourceRole {
+    WRITE,
+    READ
+}
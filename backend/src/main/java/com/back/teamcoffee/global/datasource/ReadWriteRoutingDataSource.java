@@ -0,0 +1,24 @@
+package com.back.teamcoffee.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// readOnly 트랜잭션은 읽기 풀, 그 외는 쓰기 풀로 보낸다
+// 읽기 DB 지연이 허용치를 넘었거나 방금 쓴 데이터를 읽는 중이면 readOnly 라도 쓰기 풀로 보낸다
+// 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 뒤에 둔다
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesTracker.isPinnedToPrimary()
+                && lagMonitor.isUsable()
+                ? DataSourceRole.READ
+                : DataSourceRole.WRITE;
+    }
+}
@@ -0,0 +1,63 @@
+package com.back.teamcoffee.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// 쓰기 직후 같은 키(주문자 이메일 등)의 조회는 sticky-window 동안 쓰기 DB 로 보낸다
+// 복제가 늦어도 방금 만든 주문이 목록에서 빠져 보이지 않게 한다
+public class ReadYourWritesTracker {
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.recentWrites = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(stickyWindow)
+                .build();
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤부터 창을 센다
+    public void recordWrite(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWrites.put(key, Boolean.TRUE);
+                }
+            });
+        } else {
+            recentWrites.put(key, Boolean.TRUE);
+        }
+    }
+
+    public boolean isSticky(String key) {
+        return recentWrites.getIfPresent(key) != null;
+    }
+
+    // key 에 최근 쓰기가 있으면 query 안의 readOnly 트랜잭션도 쓰기 DB 로 보낸다
+    public <T> T read(String key, Supplier<T> query) {
+        return isSticky(key) ? onPrimary(query) : query.get();
+    }
+
+    public static <T> T onPrimary(Supplier<T> query) {
+        if (isPinnedToPrimary()) {
+            return query.get();
+        }
+        PINNED.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            PINNED.remove();
+        }
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PINNED.get() != null;
+    }
+}
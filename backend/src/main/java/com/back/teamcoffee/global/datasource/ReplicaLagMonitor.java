@@ -0,0 +1,101 @@
+package com.back.teamcoffee.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 읽기 DB 의 복제 지연을 주기적으로 확인해 허용치(max-lag)를 넘으면 조회를 쓰기 DB 로 돌린다
+// lag-query 는 지연을 초 단위 숫자 하나로 돌려주는 쿼리 (비워 두면 지연 없음으로 본다)
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder, DisposableBean {
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Duration lag = Duration.ZERO;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+
+        if (!StringUtils.hasText(lagQuery)) {
+            this.usable = true;
+            this.scheduler = null;
+            return;
+        }
+        // 첫 확인이 끝나기 전까지는 쓰기 DB 로 조회
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+        this.scheduler.scheduleWithFixedDelay(this::refresh, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+
+    // 지연을 다시 측정 (스케줄러가 호출, 테스트에서는 직접 호출)
+    public void refresh() {
+        if (!StringUtils.hasText(lagQuery)) {
+            return;
+        }
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            double seconds = rs.next() ? rs.getDouble(1) : 0;
+            lag = Duration.ofMillis(Math.round(seconds * 1000));
+            update(lag.compareTo(maxLag) <= 0);
+        } catch (SQLException | RuntimeException e) {
+            if (usable) {
+                log.warn("읽기 DB 지연 확인 실패, 쓰기 DB 로 조회: {}", e.getMessage());
+            }
+            usable = false;
+        }
+    }
+
+    private void update(boolean nowUsable) {
+        if (usable && !nowUsable) {
+            log.warn("읽기 DB 지연 {}ms 가 허용치 {}ms 초과, 쓰기 DB 로 조회", lag.toMillis(), maxLag.toMillis());
+        } else if (!usable && nowUsable) {
+            log.info("읽기 DB 지연 {}ms, 읽기 DB 조회 재개", lag.toMillis());
+        }
+        usable = nowUsable;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lag.toMillis() / 1000.0)
+                .description("마지막으로 측정한 읽기 DB 복제 지연")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("읽기 DB 로 조회를 보내는 중이면 1")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
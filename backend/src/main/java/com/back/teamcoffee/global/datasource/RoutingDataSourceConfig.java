@@ -0,0 +1,81 @@
+package com.back.teamcoffee.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+// 쓰기 풀(spring.datasource.hikari)과 읽기 풀(app.datasource.read.hikari)을 분리
+// 조회가 몰려도 주문 생성이 쓸 커넥션이 남도록 풀을 나눈다
+// app.datasource.read.url 이 있으면 읽기 풀은 그 복제본에, 없으면 쓰기 DB 에 붙는다
+@Configuration
+public class RoutingDataSourceConfig {
+
+    // 마이그레이션은 라우팅을 거치지 않고 쓰기 풀로 실행
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource writeDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("write-pool");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.read.hikari")
+    public HikariDataSource readDataSource(DataSourceProperties properties,
+                                           @Value("${app.datasource.read.url:}") String url,
+                                           @Value("${app.datasource.read.username:${spring.datasource.username:}}") String username,
+                                           @Value("${app.datasource.read.password:${spring.datasource.password:}}") String password) {
+        DataSourceBuilder<HikariDataSource> builder = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class);
+        if (StringUtils.hasText(url)) {
+            builder.url(url).username(username).password(password);
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("read-pool");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("readDataSource") DataSource readDataSource,
+                                               @Value("${app.datasource.read.lag-query:}") String lagQuery,
+                                               @Value("${app.datasource.read.max-lag:5s}") Duration maxLag,
+                                               @Value("${app.datasource.read.lag-check-interval:1s}") Duration checkInterval) {
+        return new ReplicaLagMonitor(readDataSource, lagQuery, maxLag, checkInterval);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${app.datasource.read.sticky-window:5s}") Duration stickyWindow) {
+        return new ReadYourWritesTracker(stickyWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routing.setTargetDataSources(Map.of(
+                DataSourceRole.WRITE, writeDataSource,
+                DataSourceRole.READ, readDataSource
+        ));
+        routing.setDefaultTargetDataSource(writeDataSource);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.teamcoffee.global.exception;
+
+import com.back.teamcoffee.global.baseresponse.BaseResponse;
+import org.springframework.http.HttpStatus;
+
+public class BadRequestException extends BaseResponse {
+    public BadRequestException(String message) {
+
+      super("400-BAD-REQUEST", message, HttpStatus.BAD_REQUEST);
+    }
+}
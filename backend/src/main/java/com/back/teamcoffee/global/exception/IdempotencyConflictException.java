@@ -0,0 +1,11 @@
+package com.back.teamcoffee.global.exception;
+
+import com.back.teamcoffee.global.baseresponse.BaseResponse;
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyConflictException extends BaseResponse {
+    public IdempotencyConflictException(String message) {
+
+      super("409-IDEMPOTENCY-CONFLICT", message, HttpStatus.CONFLICT);
+    }
+}
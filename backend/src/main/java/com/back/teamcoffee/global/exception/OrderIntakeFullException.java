@@ -0,0 +1,11 @@
+package com.back.teamcoffee.global.exception;
+
+import com.back.teamcoffee.global.baseresponse.BaseResponse;
+import org.springframework.http.HttpStatus;
+
+public class OrderIntakeFullException extends BaseResponse {
+    public OrderIntakeFullException() {
+
+      super("503-INTAKE-FULL", "주문 접수 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.teamcoffee.global.exception;
+
+import com.back.teamcoffee.global.baseresponse.BaseResponse;
+import org.springframework.http.HttpStatus;
+
+public class OutOfStockException extends BaseResponse {
+    public OutOfStockException(String productName) {
+
+      super("409-OUT-OF-STOCK", "재고가 부족합니다:" + productName, HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.teamcoffee.global.exception;
+
+import com.back.teamcoffee.global.baseresponse.BaseResponse;
+import org.springframework.http.HttpStatus;
+
+public class PasswordHashingBusyException extends BaseResponse {
+    public PasswordHashingBusyException() {
+
+      super("503-AUTH-BUSY", "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
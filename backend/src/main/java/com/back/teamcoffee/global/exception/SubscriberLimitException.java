@@ -0,0 +1,11 @@
+package com.back.teamcoffee.global.exception;
+
+import com.back.teamcoffee.global.baseresponse.BaseResponse;
+import org.springframework.http.HttpStatus;
+
+public class SubscriberLimitException extends BaseResponse {
+    public SubscriberLimitException() {
+
+      super("503-TOO-MANY-SUBSCRIBERS", "구독 연결이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,120 @@
+package com.back.teamcoffee.global.idempotency;
+
+import com.back.teamcoffee.global.exception.BadRequestException;
+import com.back.teamcoffee.global.exception.IdempotencyConflictException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// (요청자, Idempotency-Key) 별로 첫 요청의 응답 바이트를 ttl 동안 보관하는 메모리 저장소
+// 키는 요청자 범위 안에서만 유일하면 되므로, 다른 사용자가 같은 키를 써도 서로의 응답을 받지 않는다
+// 같은 키가 동시에 들어오면 먼저 등록한 요청만 실행하고, 나머지는 그 결과를 기다렸다가 그대로 돌려준다
+// 실패한 요청은 (Error 포함) 키를 지워 클라이언트가 같은 키로 다시 시도할 수 있게 한다
+// 크기 한도는 키 수가 아니라 보관한 응답 바이트로 잡는다: 처리 중인 키는 무게 0 이라 크기 때문에 밀려나지 않고,
+// 완료된 응답은 ttl 안에서 한도를 넘을 때만 오래된 것부터 밀려난다 (그때마다 경고 로그 → max-size 를 늘릴 신호)
+@Slf4j
+@Component
+public class IdempotencyKeyStore {
+    public static final String HEADER = "Idempotency-Key";
+    // 응답이 재사용된 경우 붙이는 헤더
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    // 키/fingerprint 문자열과 엔트리 객체의 대략적인 크기
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<ScopedKey, Entry> entries;
+    private final Duration waitTimeout;
+
+    public IdempotencyKeyStore(@Value("${app.idempotency.ttl:24h}") Duration ttl,
+                               @Value("${app.idempotency.max-size:256MB}") DataSize maxSize,
+                               @Value("${app.idempotency.wait-timeout:10s}") Duration waitTimeout) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher(IdempotencyKeyStore::weigh)
+                .expireAfterWrite(ttl)
+                .evictionListener((ScopedKey key, Entry entry, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        log.warn("Idempotency-Key 가 ttl 전에 용량 한도로 밀려남 (app.idempotency.max-size 부족): owner={}", key.owner());
+                    }
+                })
+                .build();
+        this.waitTimeout = waitTimeout;
+    }
+
+    // owner 는 요청자 식별자 (로그인 사용자나 주문자 email), fingerprint 는 요청 본문 해시 (같은 키로 다른 요청을 보내면 거절)
+    public Result execute(String owner, String idempotencyKey, String fingerprint, Supplier<byte[]> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException("Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        ScopedKey key = new ScopedKey(owner, idempotencyKey);
+        Entry mine = new Entry(fingerprint, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, mine);
+        if (existing == null) {
+            return new Result(run(key, mine, action), false);
+        }
+
+        if (!existing.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+        return new Result(await(existing), true);
+    }
+
+    // 처리 중인 엔트리는 무게 0 (크기 기준으로 밀려나지 않음), 완료된 엔트리는 응답 크기만큼
+    private static int weigh(ScopedKey key, Entry entry) {
+        byte[] response = entry.response().getNow(null);
+        return response == null ? 0 : response.length + ENTRY_OVERHEAD_BYTES;
+    }
+
+    private byte[] run(ScopedKey key, Entry entry, Supplier<byte[]> action) {
+        try {
+            byte[] response = action.get();
+            entry.response().complete(response);
+            // 무게는 넣을 때 계산되므로 완료 후 다시 넣어 응답 크기를 반영한다
+            entries.put(key, entry);
+            return response;
+        } catch (Throwable e) {
+            // 기다리는 요청도 같은 오류로 끝나고, 키는 남지 않는다
+            entries.asMap().remove(key, entry);
+            entry.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private byte[] await(Entry entry) {
+        try {
+            return entry.response().get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 먼저 실행한 요청과 같은 오류 응답을 받도록 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException("같은 Idempotency-Key 의 요청을 처리 중입니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException("같은 Idempotency-Key 의 요청을 처리 중입니다.");
+        }
+    }
+
+    private record ScopedKey(String owner, String idempotencyKey) {
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<byte[]> response) {
+    }
+
+    public record Result(byte[] body, boolean replayed) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.back.teamcoffee.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 지정한 로거(하위 로거 포함)의 DEBUG 이하 로그를 rate 건 중 1 건만 통과시킨다
+// 이벤트 생성 전에 걸러지므로 버려지는 로그는 포맷팅/큐잉 비용이 없다, INFO 이상은 항상 통과
+public class LoggerSamplingTurboFilter extends TurboFilter {
+    private String loggerName;
+    private int rate = 100;
+    private final AtomicLong counter = new AtomicLong();
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setRate(int rate) {
+        this.rate = Math.max(rate, 1);
+    }
+
+    @Override
+    public void start() {
+        if (loggerName == null) {
+            addError("loggerName 이 설정되지 않았습니다.");
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format 이 null 이면 isDebugEnabled() 같은 레벨 확인 호출이므로 샘플 수에 넣지 않음
+        if (format == null || level.isGreaterOrEqual(Level.INFO) || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        return counter.getAndIncrement() % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        return name.equals(loggerName)
+                || (name.startsWith(loggerName) && name.charAt(loggerName.length()) == '.');
+    }
+}
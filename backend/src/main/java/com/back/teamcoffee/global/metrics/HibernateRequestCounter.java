@@ -0,0 +1,44 @@
+package com.back.teamcoffee.global.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+// 요청 스레드 단위로 실행된 SQL 수와 로딩된 엔티티 수를 센다
+// SessionFactory 전체에 하나만 등록되므로 상태는 ThreadLocal 에만 둔다
+public class HibernateRequestCounter implements StatementInspector, Interceptor {
+    private static final ThreadLocal<Counts> COUNTS = ThreadLocal.withInitial(Counts::new);
+
+    @Override
+    public String inspect(String sql) {
+        COUNTS.get().statements++;
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        COUNTS.get().entityLoads++;
+        return false;
+    }
+
+    public static Counts current() {
+        return COUNTS.get();
+    }
+
+    public static void reset() {
+        COUNTS.remove();
+    }
+
+    public static class Counts {
+        private long statements;
+        private long entityLoads;
+
+        public long statements() {
+            return statements;
+        }
+
+        public long entityLoads() {
+            return entityLoads;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.back.teamcoffee.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// 요청이 끝나면 HibernateRequestCounter 값을 엔드포인트별 분포로 기록
+// 보안 필터(사용자 조회)의 SQL 까지 포함하도록 가장 바깥에서 실행
+// (OSIV 는 꺼져 있으므로 SQL 은 서비스 트랜잭션 안에서만 나가고, 뷰 렌더링 중 지연 로딩은 없다)
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class HibernateRequestMetricsFilter extends OncePerRequestFilter {
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req,
+                                    HttpServletResponse res,
+                                    FilterChain chain) throws ServletException, IOException {
+        HibernateRequestCounter.reset();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            HibernateRequestCounter.Counts counts = HibernateRequestCounter.current();
+            // uri 태그는 경로 변수 치환 전 패턴을 사용해 카디널리티를 제한
+            Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+
+            summary(MetricsConfig.REQUEST_STATEMENTS, req.getMethod(), uri).record(counts.statements());
+            summary(MetricsConfig.REQUEST_ENTITY_LOADS, req.getMethod(), uri).record(counts.entityLoads());
+            HibernateRequestCounter.reset();
+        }
+    }
+
+    private DistributionSummary summary(String name, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
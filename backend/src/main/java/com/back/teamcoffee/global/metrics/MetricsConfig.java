@@ -0,0 +1,26 @@
+package com.back.teamcoffee.global.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 서비스 타이머 / 요청별 Hibernate 카운터 설정
+// 엔드포인트 노출, 히스토그램, HikariCP 게이지는 application.yml 의 management 설정을 따른다
+@Configuration
+public class MetricsConfig {
+    // 서비스 public 메서드 실행 시간 (class, method, exception 태그)
+    public static final String SERVICE_TIMER = "teamcoffee.service";
+    // 요청 하나에서 실행된 SQL 수 / 로딩된 엔티티 수 (method, uri 태그)
+    public static final String REQUEST_STATEMENTS = "hibernate.request.statements";
+    public static final String REQUEST_ENTITY_LOADS = "hibernate.request.entity.loads";
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateRequestCounterCustomizer() {
+        HibernateRequestCounter counter = new HibernateRequestCounter();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, counter);
+            properties.put(AvailableSettings.INTERCEPTOR, counter);
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.back.teamcoffee.global.security;
+
+import com.back.teamcoffee.domain.user.entity.UserRole;
+
+// 인증된 사용자 (JWT 클레임 / Basic 인증 결과에서 만든 불변 principal)
+// 요청 처리 중 누가 호출했는지 알기 위해 users 테이블을 조회하지 않도록 email 과 role 을 함께 들고 있다
+public record AuthUser(int id, String email, UserRole role) {
+
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+
+    // 본인 데이터이거나 관리자면 접근 가능
+    public boolean canAccess(String email) {
+        return isAdmin() || (this.email != null && this.email.equals(email));
+    }
+}
@@ -0,0 +1,21 @@
+package com.back.teamcoffee.global.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.List;
+
+// Basic 인증용 UserDetails. 인증 성공 후 principal 을 JWT 와 같은 AuthUser 로 바꾸기 위해 함께 들고 있다
+public class AuthUserDetails extends User {
+    private final AuthUser authUser;
+
+    public AuthUserDetails(AuthUser authUser, String password) {
+        // 권한은 JWT 와 같이 role 이름 그대로 (hasAuthority("ADMIN") 규칙이 두 인증 방식에 똑같이 적용되게)
+        super(authUser.email(), password, List.of(new SimpleGrantedAuthority(authUser.role().name())));
+        this.authUser = authUser;
+    }
+
+    public AuthUser getAuthUser() {
+        return authUser;
+    }
+}
@@ -0,0 +1,45 @@
+package com.back.teamcoffee.global.security;
+
+import com.back.teamcoffee.global.exception.PasswordHashingBusyException;
+import com.back.teamcoffee.global.rsdata.RsData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// HTTP Basic 인증 실패 응답: 보통은 401 + WWW-Authenticate
+// 해시 풀이 바빠 검증하지 못한 경우는 자격 증명 문제가 아니므로 503 (GlobalExceptionHandler 와 같은 RsData 본문)
+public class BasicAuthEntryPoint implements AuthenticationEntryPoint {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final BasicAuthenticationEntryPoint delegate = new BasicAuthenticationEntryPoint();
+    private final ObjectMapper objectMapper;
+
+    public BasicAuthEntryPoint(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        delegate.setRealmName("Realm");
+    }
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        if (!(authException instanceof PasswordHashingBusyAuthenticationException busyException)) {
+            delegate.commence(request, response, authException);
+            return;
+        }
+
+        PasswordHashingBusyException busy = busyException.getBusy();
+        response.setStatus(busy.getStatusCode().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), RsData.of(busy.getResultCode(), busy.getMessage(), null));
+    }
+}
@@ -0,0 +1,95 @@
+package com.back.teamcoffee.global.security;
+
+import com.back.teamcoffee.global.exception.PasswordHashingBusyException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+
+// HTTP Basic 인증용 provider: 요청마다 BCrypt 검증을 하지 않도록 검증에 성공한 자격 증명을 ttl 동안 기억한다
+// 키는 프로세스마다 새로 만든 비밀키로 HMAC(email, password) 한 값이라 캐시에 비밀번호가 남지 않는다
+// 값은 검증에 쓴 저장 해시라서 비밀번호가 바뀌면 (해시가 달라지므로) 바로 다시 검증한다
+// 실패한 시도는 캐시하지 않으므로 틀린 비밀번호는 항상 BCrypt 를 거친다
+public class CachingBasicAuthenticationProvider extends DaoAuthenticationProvider {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final Cache<String, String> verified;
+    private final SecretKeySpec key;
+
+    public CachingBasicAuthenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder,
+                                              Duration ttl, long maxSize) {
+        setUserDetailsService(userDetailsService);
+        setPasswordEncoder(passwordEncoder);
+        this.verified = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    // 해시 풀이 가득 차면 AuthenticationException 으로 바꿔 BasicAuthenticationFilter 가 entry point 로 응답하게 한다
+    // (그대로 두면 필터 밖으로 빠져나가 500, 사용자를 못 찾았을 때의 더미 검증도 여기서 함께 잡힌다)
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        try {
+            return super.authenticate(authentication);
+        } catch (PasswordHashingBusyException e) {
+            throw new PasswordHashingBusyAuthenticationException(e);
+        }
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(UserDetails userDetails,
+                                                  UsernamePasswordAuthenticationToken authentication) throws AuthenticationException {
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+
+        String digest = digest(userDetails.getUsername(), credentials.toString());
+        String encoded = userDetails.getPassword();
+        if (encoded != null && encoded.equals(verified.getIfPresent(digest))) {
+            return;
+        }
+
+        // 불일치면 BadCredentialsException 으로 빠져나가 캐시에 남지 않는다
+        super.additionalAuthenticationChecks(userDetails, authentication);
+        verified.put(digest, encoded);
+    }
+
+    // principal 을 JWT 인증과 같은 AuthUser 로 (@CurrentUser 가 두 인증 방식에서 똑같이 동작하게)
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication, UserDetails user) {
+        Object authPrincipal = user instanceof AuthUserDetails details ? details.getAuthUser() : principal;
+        return super.createSuccessAuthentication(authPrincipal, authentication, user);
+    }
+
+    private String digest(String email, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            mac.update(email.getBytes(StandardCharsets.UTF_8));
+            // 구분자로 (email, password) 경계를 고정
+            mac.update((byte) 0);
+            return HexFormat.of().formatHex(mac.doFinal(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("자격 증명 해시 실패", e);
+        }
+    }
+}
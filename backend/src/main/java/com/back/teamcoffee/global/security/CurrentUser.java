@@ -0,0 +1,14 @@
+package com.back.teamcoffee.global.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 현재 로그인한 AuthUser 를 주입
+// required = false 면 비로그인 요청에 null 을 넘긴다 (기본은 401)
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+    boolean required() default true;
+}
@@ -3,7 +3,6 @@ package com.back.teamcoffee.global.security;
 import com.back.teamcoffee.domain.user.repository.UserRepository;
 import com.back.teamcoffee.global.exception.DataNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,11 +16,8 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String email) throws DataNotFoundException {
         var u = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("user not found" + email));
-        return User
-                .withUsername(u.getEmail())             // 또는 u.getName()
-                .password(u.getPassword())              // DB에 저장된 BCrypt 해시
-                .roles(u.getRole().name())
-                .build();
+        // DB에 저장된 BCrypt 해시와 함께 principal 로 쓸 AuthUser 를 담아 둔다
+        return new AuthUserDetails(new AuthUser(u.getId(), u.getEmail(), u.getRole()), u.getPassword());
     }
 
 }
@@ -4,7 +4,6 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -23,10 +22,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                                     FilterChain chain) throws ServletException, IOException {
         String token = CookieUtil.resolveToken(req, "AccessToken");
 
-        if(token != null && jwt.validateToken(token)) {
-            Authentication auth = jwt.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(auth);
-
+        if(token != null) {
+            jwt.resolveAuthentication(token)
+                    .ifPresent(auth -> SecurityContextHolder.getContext().setAuthentication(auth));
         }
         chain.doFilter(req, res);
 
@@ -1,11 +1,14 @@
 package com.back.teamcoffee.global.security;
 
 import com.back.teamcoffee.domain.user.entity.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -14,76 +17,188 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider  {
-    @Value("${jwt.secret}")
-    private String secret;
+    // 검증된 토큰의 인증 정보를 보관할 최대 개수
+    private static final int AUTH_CACHE_SIZE = 10_000;
+    // 토큰 종류 클레임 (리프레시 토큰으로 API 를 호출하거나 액세스 토큰으로 재발급받지 못하게)
+    private static final String TYPE_CLAIM = "typ";
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+    // 요청 처리 중 users 조회 없이 본인 확인을 하기 위한 클레임
+    static final String EMAIL_CLAIM = "email";
+    static final String ROLE_CLAIM = "role";
 
-    @Value("${jwt.refresh-exp}")
-    private long refreshExp;
-    @Value("${jwt.access-exp}")
-    private long accessExp;
+    private final long refreshExp;
+    private final long accessExp;
 
-    private SecretKey key;
+    private final SecretKey key;
+    // 파서는 불변이고 스레드 안전하므로 하나만 만들어 재사용
+    private final JwtParser parser;
+    // 토큰 해시 -> 인증 정보, 토큰의 exp 까지만 보관
+    private final Cache<String, CachedAuthentication> authCache;
+    // 로그아웃 / 재발급으로 폐기된 토큰 (캐시된 토큰도 매번 확인)
+    private final TokenDenylist denylist;
 
-    @PostConstruct
-    private void init() {
+    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+                            @Value("${jwt.access-exp}") long accessExp,
+                            @Value("${jwt.refresh-exp}") long refreshExp,
+                            TokenDenylist denylist) {
         byte[] decoded = Base64.getDecoder().decode(secret);
         this.key = new SecretKeySpec(decoded, 0, decoded.length, "HmacSHA256");
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.accessExp = accessExp;
+        this.refreshExp = refreshExp;
+        this.denylist = denylist;
+        this.authCache = Caffeine.newBuilder()
+                .maximumSize(AUTH_CACHE_SIZE)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
     }
-    public String createToken(int userId, UserRole userRole) {
-        Date now = new Date();
-        return Jwts.builder()
-                .setSubject(String.valueOf(userId))
-                .claim("role", userRole.name())
-                .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + accessExp))
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
 
+    public String createToken(AuthUser user) {
+        return create(user, ACCESS_TYPE, accessExp);
     }
 
-    public String createRefreshToken(int userId, UserRole userRole) {
+    public String createRefreshToken(AuthUser user) {
+        return create(user, REFRESH_TYPE, refreshExp);
+    }
+
+    // jti 는 폐기 목록의 키
+    private String create(AuthUser user, String type, long exp) {
         Date now = new Date();
         return Jwts.builder()
-                .setSubject(String.valueOf(userId))
-                .claim("role", userRole.name())
+                .setId(UUID.randomUUID().toString())
+                .setSubject(String.valueOf(user.id()))
+                .claim(EMAIL_CLAIM, user.email())
+                .claim(ROLE_CLAIM, user.role().name())
+                .claim(TYPE_CLAIM, type)
                 .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + refreshExp))
+                .setExpiration(new Date(now.getTime() + exp))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        int userId = Integer.parseInt(claims.getSubject());
-        String role = claims.get("role", String.class);
+    // 유효한 토큰이면 인증 정보를, 아니면 빈 값을 반환 (서명 검증과 클레임 추출을 한 번에 처리)
+    public Optional<Authentication> resolveAuthentication(String token) {
+        String cacheKey = hash(token);
+        CachedAuthentication cached = authCache.getIfPresent(cacheKey);
+        if (cached != null && cached.expiresAt() > System.currentTimeMillis()) {
+            return isRevoked(cached.jti(), cached.expiresAt()) ? Optional.empty() : Optional.of(cached.authentication());
+        }
+
+        Optional<Claims> claims = parse(token)
+                .filter(c -> !REFRESH_TYPE.equals(c.get(TYPE_CLAIM, String.class)));
+        if (claims.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Date expiration = claims.get().getExpiration();
+        String jti = claims.get().getId();
+        if (expiration != null && isRevoked(jti, expiration.getTime())) {
+            return Optional.empty();
+        }
+
+        Authentication auth = toAuthentication(claims.get());
+        if (expiration != null) {
+            authCache.put(cacheKey, new CachedAuthentication(auth, expiration.getTime(), jti));
+        }
+        return Optional.of(auth);
+    }
+
+    // 서명/만료/종류가 맞고 폐기되지 않은 리프레시 토큰의 클레임 (DB 조회 없음)
+    public Optional<Claims> parseRefreshToken(String token) {
+        return parse(token)
+                .filter(c -> REFRESH_TYPE.equals(c.get(TYPE_CLAIM, String.class)))
+                .filter(c -> c.getId() != null && c.getExpiration() != null)
+                .filter(c -> !denylist.isRevoked(c.getId(), c.getExpiration().getTime()));
+    }
+
+    // 토큰 폐기. 이번 호출로 처음 폐기했으면 true (재발급 시 같은 토큰의 재사용 방지)
+    public boolean revoke(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return false;
+        }
+        return denylist.revoke(claims.getId(), claims.getExpiration().getTime());
+    }
+
+    // 로그아웃: 유효한 토큰이면 폐기 (잘못된 토큰은 무시)
+    public void revoke(String token) {
+        parse(token).ifPresent(this::revoke);
+    }
+
+    // jti 가 없는 (이전 버전에서 발급된) 토큰은 폐기할 수 없으므로 만료까지 유효
+    private boolean isRevoked(String jti, long expiresAt) {
+        return jti != null && denylist.isRevoked(jti, expiresAt);
+    }
+
+    Optional<Claims> parse(String token) {
+        try {
+            return Optional.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 클레임만으로 principal 을 만든다 (email 클레임이 없는 이전 토큰은 email 이 null)
+    public AuthUser toAuthUser(Claims claims) {
+        return new AuthUser(
+                Integer.parseInt(claims.getSubject()),
+                claims.get(EMAIL_CLAIM, String.class),
+                UserRole.valueOf(claims.get(ROLE_CLAIM, String.class))
+        );
+    }
+
+    private Authentication toAuthentication(Claims claims) {
+        AuthUser user = toAuthUser(claims);
         return new UsernamePasswordAuthenticationToken(
-                userId,
+                user,
                 null,
-                Collections.singleton(new SimpleGrantedAuthority(role))
+                Collections.singleton(new SimpleGrantedAuthority(user.role().name()))
         );
-
     }
-    public boolean validateToken(String token) {
+
+    // 토큰 원문을 메모리에 들고 있지 않도록 SHA-256 해시를 키로 사용
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
+    private record CachedAuthentication(Authentication authentication, long expiresAt, String jti) {
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, CachedAuthentication> {
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = Math.max(0, value.expiresAt() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
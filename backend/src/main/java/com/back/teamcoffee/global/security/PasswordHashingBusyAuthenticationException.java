@@ -0,0 +1,16 @@
+package com.back.teamcoffee.global.security;
+
+import com.back.teamcoffee.global.exception.PasswordHashingBusyException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+// 해시 풀이 가득 차서 비밀번호를 검증하지 못한 경우 (자격 증명이 틀린 것이 아니다)
+// InternalAuthenticationServiceException 이라 ProviderManager 가 다른 provider 로 넘기지 않고 바로 실패시킨다
+public class PasswordHashingBusyAuthenticationException extends InternalAuthenticationServiceException {
+    public PasswordHashingBusyAuthenticationException(PasswordHashingBusyException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    public PasswordHashingBusyException getBusy() {
+        return (PasswordHashingBusyException) getCause();
+    }
+}
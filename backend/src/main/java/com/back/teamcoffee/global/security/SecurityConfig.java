@@ -1,11 +1,13 @@
 package com.back.teamcoffee.global.security;
 
 import com.back.teamcoffee.domain.user.entity.UserRole;
+import jakarta.servlet.DispatcherType;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -15,6 +17,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -25,25 +28,34 @@ public class SecurityConfig {
     private final CustomUserDetailsService cds;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder, ObjectMapper objectMapper,
+                                                   @Value("${app.security.basic-auth-cache.ttl:60s}") Duration basicAuthCacheTtl,
+                                                   @Value("${app.security.basic-auth-cache.max-size:10000}") long basicAuthCacheMaxSize) throws Exception {
         return http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))  // CORS 설정 추가
                 .csrf(csrf -> csrf.disable())
 
                 .authorizeHttpRequests(reg -> reg
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()  // CORS preflight 요청 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // SSE 등 비동기 응답 재디스패치 (최초 요청에서 인가됨)
                         .requestMatchers("/users/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
+                        .requestMatchers("/actuator/health/**").permitAll()  // 헬스 체크
+                        .requestMatchers("/actuator/**").hasAuthority(UserRole.ADMIN.name())  // 메트릭 수집(prometheus)도 관리자 계정 Basic 인증으로
+                        .requestMatchers("/admin/**").hasAuthority(UserRole.ADMIN.name())
                         .requestMatchers("/products/**").permitAll()  // 상품 조회는 모두 허용
                         .requestMatchers("/orders/modify/**").hasAuthority(UserRole.ADMIN.name())
+                        .requestMatchers("/orders/lists/today/export").hasAuthority(UserRole.ADMIN.name())
+                        .requestMatchers("/orders/events").hasAuthority(UserRole.ADMIN.name())  // 전체 주문 상태 구독
+                        .requestMatchers("/orders/*/events").authenticated()  // 주문별 상태 구독은 주문자 본인/관리자 (컨트롤러에서 확인)
                         .requestMatchers("/orders/**").permitAll()
                         .requestMatchers("/api/v1/wishlists/**").authenticated()  // 위시리스트는 인증 필요
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
-                .httpBasic(Customizer.withDefaults())
-                .userDetailsService(cds)
+                .httpBasic(basic -> basic.authenticationEntryPoint(new BasicAuthEntryPoint(objectMapper)))  // 해시 풀 포화는 401 이 아니라 503
+                .authenticationProvider(new CachingBasicAuthenticationProvider(cds, passwordEncoder, basicAuthCacheTtl, basicAuthCacheMaxSize))
                 .build();
     }
 
@@ -63,8 +75,12 @@ public class SecurityConfig {
         return source;
     }
 
+    // 로그인/회원가입/Basic 인증의 BCrypt 는 모두 전용 풀에서 실행
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public OffloadingPasswordEncoder passwordEncoder(
+            @Value("${app.security.hashing.threads:2}") int threads,
+            @Value("${app.security.hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.security.hashing.wait-timeout:2s}") Duration waitTimeout) {
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, waitTimeout);
     }
 }
@@ -0,0 +1,124 @@
+package com.back.teamcoffee.global.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 폐기된 토큰(jti) 목록. 토큰 만료 시각을 bucket-width 단위로 나눈 구간마다 고정 크기 Bloom filter 하나
+// 구간의 토큰이 모두 만료되면 구간째 버리므로, 메모리는 사용자 수가 아니라 (토큰 수명 / 구간 폭) x 필터 크기로 고정된다
+// Bloom filter 라서 폐기하지 않은 토큰도 false-positive-rate 확률로 폐기된 것으로 보일 수 있다 (그 경우 다시 로그인)
+// 인스턴스 메모리에만 있으므로 여러 인스턴스로 띄우면 폐기는 처리한 인스턴스에만 반영된다
+@Component
+public class TokenDenylist implements MeterBinder {
+    private final long bucketWidthMillis;
+    private final int bitsPerBucket;
+    private final int hashCount;
+    // 구간 번호(만료 시각 / 구간 폭) -> 그 구간에 만료되는 폐기 토큰
+    private final ConcurrentNavigableMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+
+    private Counter revoked;
+
+    public TokenDenylist(@Value("${app.security.token-denylist.bucket-width:1d}") Duration bucketWidth,
+                         @Value("${app.security.token-denylist.expected-per-bucket:100000}") int expectedPerBucket,
+                         @Value("${app.security.token-denylist.false-positive-rate:0.0001}") double falsePositiveRate) {
+        this.bucketWidthMillis = bucketWidth.toMillis();
+        // 표준 Bloom filter 크기: m = -n ln p / (ln 2)^2, k = (m / n) ln 2
+        double ln2 = Math.log(2);
+        this.bitsPerBucket = (int) Math.ceil(-expectedPerBucket * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitsPerBucket / expectedPerBucket * ln2));
+    }
+
+    // 폐기 기록. 이미 폐기된(것으로 보이는) 토큰이면 false (같은 리프레시 토큰으로 동시에 재발급하면 한 요청만 성공)
+    public boolean revoke(String jti, long expiresAtMillis) {
+        long now = System.currentTimeMillis();
+        if (expiresAtMillis <= now) {
+            // 이미 만료된 토큰은 서명 검증에서 걸러지므로 기록할 필요 없음
+            return false;
+        }
+        // 만료된 구간 정리
+        buckets.headMap(bucketOf(now)).clear();
+
+        BloomFilter filter = buckets.computeIfAbsent(bucketOf(expiresAtMillis), bucket -> new BloomFilter(bitsPerBucket));
+        boolean added = filter.add(indexes(jti));
+        if (added && revoked != null) {
+            revoked.increment();
+        }
+        return added;
+    }
+
+    public boolean isRevoked(String jti, long expiresAtMillis) {
+        BloomFilter filter = buckets.get(bucketOf(expiresAtMillis));
+        return filter != null && filter.mightContain(indexes(jti));
+    }
+
+    private long bucketOf(long epochMillis) {
+        return epochMillis / bucketWidthMillis;
+    }
+
+    // SHA-256 앞 16바이트로 두 해시를 만들고 double hashing 으로 k 개 비트 위치를 계산
+    private int[] indexes(String jti) {
+        ByteBuffer digest;
+        try {
+            digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(jti.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        long h1 = digest.getLong();
+        long h2 = digest.getLong();
+        int[] indexes = new int[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            indexes[i] = (int) Math.floorMod(h1 + i * h2, (long) bitsPerBucket);
+        }
+        return indexes;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        revoked = Counter.builder("security.token.revoked")
+                .description("폐기 목록에 새로 기록된 토큰 수")
+                .register(registry);
+        Gauge.builder("security.token.denylist.buckets", buckets, ConcurrentNavigableMap::size)
+                .description("유지 중인 만료 구간(Bloom filter) 수")
+                .register(registry);
+    }
+
+    private static final class BloomFilter {
+        private final AtomicLongArray words;
+
+        private BloomFilter(int bits) {
+            this.words = new AtomicLongArray((bits + 63) / 64);
+        }
+
+        // 비트를 하나라도 새로 켰으면 true (처음 보는 값). 확인과 기록을 한 번에 하도록 필터 단위로 직렬화
+        private synchronized boolean add(int[] indexes) {
+            boolean changed = false;
+            for (int index : indexes) {
+                long mask = 1L << (index & 63);
+                long previous = words.getAndUpdate(index >>> 6, word -> word | mask);
+                changed |= (previous & mask) == 0;
+            }
+            return changed;
+        }
+
+        private boolean mightContain(int[] indexes) {
+            for (int index : indexes) {
+                if ((words.get(index >>> 6) & (1L << (index & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
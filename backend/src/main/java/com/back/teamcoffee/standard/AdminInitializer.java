@@ -4,12 +4,14 @@ import com.back.teamcoffee.domain.user.entity.User;
 import com.back.teamcoffee.domain.user.entity.UserRole;
 import com.back.teamcoffee.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AdminInitializer implements CommandLineRunner {
@@ -39,7 +41,7 @@ public class AdminInitializer implements CommandLineRunner {
                 .role(UserRole.ADMIN)
                 .build();
         userRepository.save(admin);
-        System.out.println("Admin user created with email: " + adminEmail);
+        log.info("Admin user created with email: {}", adminEmail);
     }
 
 
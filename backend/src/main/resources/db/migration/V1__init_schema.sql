@@ -0,0 +1,102 @@
+-- 초기 스키마 (기존 ddl-auto: create-drop 이 만들던 테이블과 같은 구조)
+-- H2(테스트/개발)와 PostgreSQL(운영) 양쪽에서 실행되는 문법만 사용한다
+
+create sequence order_seq start with 1 increment by 50;
+create sequence order_item_seq start with 1 increment by 50;
+create sequence sales_outbox_seq start with 1 increment by 50;
+
+create table users (
+    id         integer generated by default as identity,
+    name       varchar(255),
+    email      varchar(255),
+    address    varchar(255),
+    password   varchar(255),
+    created_at timestamp(6),
+    role       varchar(255) check (role in ('ADMIN', 'USER')),
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+create table product (
+    product_id    bigint generated by default as identity,
+    product_name  varchar(100) not null,
+    price         integer      not null,
+    description   varchar(100),
+    order_count   integer      not null,
+    product_image text,
+    stock         integer      not null,
+    created_at    timestamp(6),
+    primary key (product_id)
+);
+
+create table product_image (
+    product_id bigint      not null,
+    image_hash varchar(64) not null,
+    image_data text        not null,
+    primary key (product_id)
+);
+
+-- 비회원 주문도 받으므로 email 은 users 를 참조하지 않는다
+create table "order" (
+    order_id        bigint       not null,
+    user_id         varchar(100) not null,
+    order_count     integer      not null,
+    product_name    varchar(100),
+    total_price     integer      not null,
+    address         varchar(300),
+    created_at      timestamp(6) not null,
+    modified_at     timestamp(6) not null,
+    delivery_status boolean      not null,
+    order_status    varchar(20),
+    product_id      integer      not null,
+    email           varchar(50),
+    primary key (order_id)
+);
+
+create table order_item (
+    order_item_id bigint  not null,
+    order_count   integer not null,
+    product_price integer not null,
+    total_price   integer not null,
+    order_id      bigint,
+    product_id    bigint,
+    primary key (order_item_id),
+    constraint fk_order_item_order foreign key (order_id) references "order" (order_id),
+    constraint fk_order_item_product foreign key (product_id) references product (product_id)
+);
+
+create table wish_list (
+    wish_id    bigint generated by default as identity,
+    product_id bigint      not null,
+    email      varchar(50) not null,
+    quantity   integer     not null,
+    primary key (wish_id),
+    constraint fk_wish_list_product foreign key (product_id) references product (product_id)
+);
+
+create table sales_outbox (
+    id          bigint  not null,
+    sales_date  date    not null,
+    product_id  bigint,
+    order_count integer not null,
+    units       integer not null,
+    revenue     bigint  not null,
+    primary key (id)
+);
+
+create table daily_sales (
+    sales_date  date   not null,
+    order_count bigint not null,
+    units       bigint not null,
+    revenue     bigint not null,
+    primary key (sales_date)
+);
+
+create table daily_product_sales (
+    sales_date  date   not null,
+    product_id  bigint not null,
+    order_count bigint not null,
+    units       bigint not null,
+    revenue     bigint not null,
+    primary key (sales_date, product_id)
+);
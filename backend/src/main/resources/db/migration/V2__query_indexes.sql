@@ -0,0 +1,21 @@
+-- 실제 조회 패턴에 맞춘 인덱스 (QueryPlanTest 가 각 조회의 실행 계획을 확인한다)
+
+-- 내 주문 내역: email 일치 + (created_at, order_id) 역순 커서 페이지네이션을 정렬 없이 읽는다
+create index idx_order_email_created_at on "order" (email, created_at desc, order_id desc);
+
+-- 오늘 배송 주문 / 배송 내보내기 / 일괄 상태 변경 / 매출 재집계의 created_at 구간 조회
+create index idx_order_created_at on "order" (created_at, order_id);
+
+-- 주문 아이템 fetch join 과 주문/상품 삭제 시 FK 검사
+create index idx_order_item_order_id on order_item (order_id);
+create index idx_order_item_product_id on order_item (product_id);
+
+-- 위시리스트: 사용자당 상품 하나 (email, product_id 조회는 이 제약의 인덱스를 쓴다)
+alter table wish_list add constraint uk_wish_list_email_product unique (email, product_id);
+
+-- 위시리스트 목록 (email 일치 + wish_id 순) 과 (email, wish_id) 단건 조회
+create index idx_wish_list_email_wish_id on wish_list (email, wish_id);
+create index idx_wish_list_product_id on wish_list (product_id);
+
+-- 매출 재집계 시 해당 일자의 outbox 행 삭제
+create index idx_sales_outbox_sales_date on sales_outbox (sales_date);
@@ -0,0 +1,223 @@
+package com.back.teamcoffee.domain.order.order.controller;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderProductReq;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.domain.user.entity.User;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import com.back.teamcoffee.domain.user.repository.UserRepository;
+import com.back.teamcoffee.global.security.AuthUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 요청 하나가 어느 풀의 커넥션을 몇 번, 얼마나 오래 잡는지 측정
+// 실제 커밋/커넥션 반환이 일어나야 하므로 @Transactional 없이 실행하고 직접 정리한다
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@Import(OrderConnectionHoldTest.HoldTimeConfig.class)
+class OrderConnectionHoldTest {
+  // H2 에서 주문 한 건 처리에 커넥션을 이보다 오래 잡으면 트랜잭션 범위가 넓어진 것으로 본다
+  private static final Duration MAX_HOLD = Duration.ofMillis(300);
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private HoldTimeRecorder recorder;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private User user;
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(User.builder()
+        .email("hold@example.com")
+        .password("password")
+        .name("holduser")
+        .address("서울시 강남구 역삼동 123-45")
+        .role(UserRole.USER)
+        .build());
+    product = productRepository.save(new Product("커피1", 4500, "커피콩", 0, "img.png", 100, LocalDateTime.now()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    orderRepository.deleteAll();
+    productRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  // 필터를 끈 테스트라 JWT 필터가 만들 principal 을 SecurityContext 에 직접 넣는다
+  private RequestPostProcessor owner() {
+    return authentication(new UsernamePasswordAuthenticationToken(
+        new AuthUser(user.getId(), user.getEmail(), UserRole.USER), null, List.of(new SimpleGrantedAuthority(UserRole.USER.name()))));
+  }
+
+  private long writeOrder() throws Exception {
+    OrderWriteReqBody body = new OrderWriteReqBody(
+        List.of(new OrderProductReq(String.valueOf(product.getProductId()), 2)),
+        user.getEmail(),
+        "서울시 강남구 역삼동 123-45");
+    String response = mvc.perform(post("/orders/write")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(body)))
+        .andExpect(status().isCreated())
+        .andReturn().getResponse().getContentAsString();
+    return ((Number) JsonPath.read(response, "$.data.orderId")).longValue();
+  }
+
+  @Test
+  @DisplayName("주문 생성은 쓰기 풀 커넥션을 한 번만 잡고, 요청이 끝나기 전에 반환")
+  void t1() throws Exception {
+    recorder.reset();
+
+    long started = System.nanoTime();
+    writeOrder();
+    long requestNanos = System.nanoTime() - started;
+
+    assertThat(recorder.holds()).hasSize(1);
+    Hold hold = recorder.holds().get(0);
+    assertThat(hold.pool()).isEqualTo("write-pool");
+    assertThat(hold.nanos()).isLessThan(requestNanos);
+    assertThat(hold.nanos()).isLessThan(MAX_HOLD.toNanos());
+    assertThat(recorder.open()).isZero();
+  }
+
+  @Test
+  @DisplayName("주문 목록 / 단건 조회는 읽기 풀 커넥션을 한 번만 잡음")
+  void t2() throws Exception {
+    long orderId = writeOrder();
+    recorder.reset();
+
+    mvc.perform(get("/orders/lists").param("email", user.getEmail()).with(owner()))
+        .andExpect(status().isOk());
+    mvc.perform(get("/orders/lists/{orderId}", orderId))
+        .andExpect(status().isOk());
+
+    assertThat(recorder.holds()).hasSize(2);
+    assertThat(recorder.holds()).allSatisfy(hold -> {
+      assertThat(hold.pool()).isEqualTo("read-pool");
+      assertThat(hold.nanos()).isLessThan(MAX_HOLD.toNanos());
+    });
+    assertThat(recorder.open()).isZero();
+  }
+
+  record Hold(String pool, long nanos) {
+  }
+
+  static class HoldTimeRecorder {
+    private final List<Hold> holds = new CopyOnWriteArrayList<>();
+    private final AtomicInteger open = new AtomicInteger();
+
+    void reset() {
+      holds.clear();
+    }
+
+    List<Hold> holds() {
+      return holds;
+    }
+
+    int open() {
+      return open.get();
+    }
+
+    DataSource wrap(DataSource target, String pool) {
+      return new DelegatingDataSource(target) {
+        @Override
+        public Connection getConnection() throws SQLException {
+          Connection connection = super.getConnection();
+          long acquired = System.nanoTime();
+          open.incrementAndGet();
+          AtomicBoolean closed = new AtomicBoolean();
+          return (Connection) Proxy.newProxyInstance(
+              Connection.class.getClassLoader(),
+              new Class<?>[]{Connection.class},
+              (proxy, method, args) -> {
+                if (method.getName().equals("close") && closed.compareAndSet(false, true)) {
+                  open.decrementAndGet();
+                  holds.add(new Hold(pool, System.nanoTime() - acquired));
+                }
+                try {
+                  return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                  throw e.getTargetException();
+                }
+              });
+        }
+      };
+    }
+  }
+
+  @TestConfiguration
+  static class HoldTimeConfig {
+    @Bean
+    static HoldTimeRecorder holdTimeRecorder() {
+      return new HoldTimeRecorder();
+    }
+
+    @Bean
+    static BeanPostProcessor holdTimeRecordingPostProcessor(HoldTimeRecorder recorder) {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (bean instanceof HikariDataSource hikari) {
+            return recorder.wrap(hikari, hikari.getPoolName());
+          }
+          return bean;
+        }
+      };
+    }
+  }
+}
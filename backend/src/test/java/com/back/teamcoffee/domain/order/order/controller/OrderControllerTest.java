@@ -12,7 +12,12 @@ import com.back.teamcoffee.domain.user.entity.UserRole;
 import com.back.teamcoffee.domain.user.repository.UserRepository;
 import com.back.teamcoffee.domain.order.order.dto.OrderDto;
 import com.back.teamcoffee.global.rsdata.RsData;
+import com.back.teamcoffee.global.security.AuthUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,15 +25,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -56,6 +69,9 @@ public class OrderControllerTest {
   @Autowired
   private OrderService orderService;
 
+  @Autowired
+  private EntityManager em;
+
   private User user;
   private Product product1, product2;
 
@@ -139,11 +155,13 @@ public class OrderControllerTest {
     // when & then
     mvc.perform(get("/orders/lists")
             .param("email", user.getEmail())
+            .with(loginAs(user.getEmail(), UserRole.USER))
         )
         .andExpect(status().isOk())
         .andExpect(jsonPath("$.resultCode").value("200-OK"))
         .andExpect(jsonPath("$.msg").value("주문 조회 성공"))
-        .andExpect(jsonPath("$.data[0].email").value(user.getEmail()))
+        .andExpect(jsonPath("$.data.orders[0].email").value(user.getEmail()))
+        .andExpect(jsonPath("$.data.nextCursor").doesNotExist())
         .andDo(print());
   }
 
@@ -241,4 +259,196 @@ public class OrderControllerTest {
         .andExpect(jsonPath("$.msg").value("오늘 주문 내역이 없습니다."))
         .andDo(print());
   }
+
+  @Test
+  @DisplayName("주문 내역 커서 페이지네이션 테스트")
+  void t8() throws Exception {
+    // given
+    Order first = createTestOrder();
+    Order second = createTestOrder();
+    Order third = createTestOrder();
+
+    // when & then
+    String nextCursor = JsonPath.read(mvc.perform(get("/orders/lists")
+                .param("email", user.getEmail())
+                .param("size", "2")
+                .with(loginAs(user.getEmail(), UserRole.USER))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.orders.length()").value(2))
+            .andExpect(jsonPath("$.data.orders[0].orderId").value(third.getOrderId()))
+            .andExpect(jsonPath("$.data.orders[1].orderId").value(second.getOrderId()))
+            .andExpect(jsonPath("$.data.nextCursor").isNotEmpty())
+            .andReturn().getResponse().getContentAsString(), "$.data.nextCursor");
+
+    mvc.perform(get("/orders/lists")
+            .param("email", user.getEmail())
+            .param("size", "2")
+            .param("cursor", nextCursor)
+            .with(loginAs(user.getEmail(), UserRole.USER))
+        )
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.orders.length()").value(1))
+        .andExpect(jsonPath("$.data.orders[0].orderId").value(first.getOrderId()))
+        .andExpect(jsonPath("$.data.orders[0].orderItems.length()").value(2))
+        .andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+        .andDo(print());
+  }
+
+  @Test
+  @DisplayName("같은 Idempotency-Key 로 재시도하면 DB 조회 없이 첫 응답을 그대로 반환")
+  void t9() throws Exception {
+    // given
+    String idempotencyKey = UUID.randomUUID().toString();
+    String requestBody = String.format("""
+    {
+      "products": [
+        { "productId": "%d", "productCount": 2 }
+      ],
+      "userEmail": "test@example.com",
+      "address": "서울시 강남구 역삼동 123-45"
+    }
+    """, product1.getProductId());
+
+    String first = mvc.perform(
+            post("/orders/write")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody)
+        )
+        .andExpect(status().isCreated())
+        .andExpect(header().string("Idempotent-Replayed", "false"))
+        .andExpect(jsonPath("$.resultCode").value("201-CREATED"))
+        .andReturn().getResponse().getContentAsString();
+
+    // when
+    Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    String replayed = mvc.perform(
+            post("/orders/write")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody)
+        )
+        .andExpect(status().isCreated())
+        .andExpect(header().string("Idempotent-Replayed", "true"))
+        .andDo(print())
+        .andReturn().getResponse().getContentAsString();
+
+    // then
+    assertThat(replayed).isEqualTo(first);
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    assertThat(orderRepository.findAll()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("주문 상태 일괄 변경: ID 목록의 주문을 UPDATE 1회 + 변경된 ID 조회 1회로 변경하고, 바뀌지 않은 ID 를 따로 반환")
+  void t10() throws Exception {
+    // given
+    Order first = createTestOrder();
+    Order second = createTestOrder();
+    Order untouched = createTestOrder();
+    em.flush();
+    em.clear();
+
+    long missingId = untouched.getOrderId() + 1000;
+    String requestBody = String.format("""
+    {
+      "orderIds": [%d, %d, %d],
+      "orderStatus": "배송 완료"
+    }
+    """, first.getOrderId(), second.getOrderId(), missingId);
+
+    Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // when & then
+    mvc.perform(
+            put("/orders/modify/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody)
+        )
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.resultCode").value("200-OK"))
+        .andExpect(jsonPath("$.data.updatedCount").value(2))
+        .andExpect(jsonPath("$.data.orderIds.length()").value(2))
+        .andExpect(jsonPath("$.data.skippedOrderIds.length()").value(1))
+        .andExpect(jsonPath("$.data.skippedOrderIds[0]").value(missingId))
+        .andDo(print());
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    assertThat(orderRepository.findById(first.getOrderId()).orElseThrow().isDeliveryStatus()).isTrue();
+    assertThat(orderRepository.findById(second.getOrderId()).orElseThrow().getOrderStatus()).isEqualTo("배송 완료");
+    assertThat(orderRepository.findById(untouched.getOrderId()).orElseThrow().getOrderStatus()).isEqualTo("주문 접수");
+
+    // 이미 목표 상태인 주문은 다시 변경하지 않음
+    mvc.perform(
+            put("/orders/modify/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody)
+        )
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.updatedCount").value(0))
+        .andExpect(jsonPath("$.data.skippedOrderIds.length()").value(3));
+  }
+
+  @Test
+  @DisplayName("주문 상태 일괄 변경: 생성 시각 구간의 주문 전체 변경, 대상 조건이 없으면 400")
+  void t11() throws Exception {
+    // given
+    createTestOrder();
+    createTestOrder();
+    String requestBody = String.format("""
+    {
+      "from": "%s",
+      "to": "%s",
+      "orderStatus": "배송 중"
+    }
+    """, LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+
+    // when & then
+    mvc.perform(
+            put("/orders/modify/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody)
+        )
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.updatedCount").value(2))
+        .andDo(print());
+
+    mvc.perform(
+            put("/orders/modify/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                {
+                  "orderStatus": "배송 중"
+                }
+                """)
+        )
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  @DisplayName("다른 사람 email 의 주문 내역은 비로그인 401, 다른 사용자 403, 관리자는 조회 가능")
+  void t12() throws Exception {
+    createTestOrder();
+
+    mvc.perform(get("/orders/lists").param("email", user.getEmail()))
+        .andExpect(status().isUnauthorized());
+    mvc.perform(get("/orders/lists").param("email", user.getEmail())
+            .with(loginAs("other@example.com", UserRole.USER)))
+        .andExpect(status().isForbidden());
+    mvc.perform(get("/orders/lists").param("email", user.getEmail())
+            .with(loginAs("admin@example.com", UserRole.ADMIN)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.orders[0].email").value(user.getEmail()));
+  }
+
+  // 필터를 끈 테스트라 JWT 필터가 만들 principal 을 SecurityContext 에 직접 넣는다
+  private RequestPostProcessor loginAs(String email, UserRole role) {
+    AuthUser authUser = new AuthUser(user.getId(), email, role);
+    return authentication(new UsernamePasswordAuthenticationToken(
+        authUser, null, List.of(new SimpleGrantedAuthority(role.name()))));
+  }
 }
@@ -0,0 +1,137 @@
+package com.back.teamcoffee.domain.order.order.controller;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderProductReq;
+import com.back.teamcoffee.domain.order.order.dto.OrderStatusUpdateDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.order.order.service.OrderService;
+import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import com.back.teamcoffee.global.security.AuthUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 상태 변경 이벤트는 커밋 후에 전달되므로 @Transactional 없이 실행하고 직접 정리한다
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class OrderEventStreamTest {
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  private OrderDto order;
+
+  @BeforeEach
+  void setUp() {
+    Product product = productRepository.save(new Product("커피1", 4500, "커피콩", 0, "img.png", 10, LocalDateTime.now()));
+    order = orderService.write(new OrderWriteReqBody(
+        List.of(new OrderProductReq(String.valueOf(product.getProductId()), 1)),
+        "events@example.com",
+        "서울시 강남구 역삼동 123-45")).data();
+  }
+
+  @AfterEach
+  void tearDown() {
+    orderRepository.deleteAll();
+    productRepository.deleteAll();
+  }
+
+  // 필터를 끈 테스트라 JWT 필터가 만들 principal 을 SecurityContext 에 직접 넣는다
+  private RequestPostProcessor loginAs(String email, UserRole role) {
+    AuthUser authUser = new AuthUser(1, email, role);
+    return authentication(new UsernamePasswordAuthenticationToken(
+        authUser, null, List.of(new SimpleGrantedAuthority(role.name()))));
+  }
+
+  // 비동기로 전송되는 SSE 본문에 expected 가 나올 때까지 기다린다
+  private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+    long deadline = System.currentTimeMillis() + 5_000;
+    String content = response.getContentAsString();
+    while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+      content = response.getContentAsString();
+    }
+    return content;
+  }
+
+  @Test
+  @DisplayName("주문 구독은 현재 상태를 먼저 받고, 상태 변경이 커밋되면 변경된 상태를 받음")
+  void t1() throws Exception {
+    MockHttpServletResponse response = mvc.perform(get("/orders/{orderId}/events", order.orderId())
+            .with(loginAs("events@example.com", UserRole.USER)))
+        .andExpect(request().asyncStarted())
+        .andReturn().getResponse();
+    response.setCharacterEncoding("UTF-8");
+
+    assertThat(awaitContent(response, "주문 접수")).contains("event:status", "\"orderStatus\":\"주문 접수\"");
+
+    orderService.modifyOrderStatus(new OrderStatusUpdateDto(order.orderId(), "배송 완료"));
+
+    assertThat(awaitContent(response, "배송 완료"))
+        .contains("\"orderStatus\":\"배송 완료\"", "\"deliveryStatus\":true");
+  }
+
+  @Test
+  @DisplayName("관리자 구독은 모든 주문의 상태 변경을 받음")
+  void t2() throws Exception {
+    MockHttpServletResponse response = mvc.perform(get("/orders/events"))
+        .andExpect(request().asyncStarted())
+        .andReturn().getResponse();
+    response.setCharacterEncoding("UTF-8");
+
+    orderService.modifyOrderStatus(new OrderStatusUpdateDto(order.orderId(), "배송 중"));
+
+    assertThat(awaitContent(response, "배송 중"))
+        .contains("\"orderId\":" + order.orderId(), "\"orderStatus\":\"배송 중\"");
+  }
+
+  @Test
+  @DisplayName("없는 주문 구독은 404")
+  void t3() throws Exception {
+    mvc.perform(get("/orders/{orderId}/events", 999_999L).with(loginAs("events@example.com", UserRole.USER)))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  @DisplayName("다른 사람의 주문은 구독할 수 없고, 관리자는 구독 가능")
+  void t4() throws Exception {
+    mvc.perform(get("/orders/{orderId}/events", order.orderId()))
+        .andExpect(status().isUnauthorized());
+    mvc.perform(get("/orders/{orderId}/events", order.orderId()).with(loginAs("other@example.com", UserRole.USER)))
+        .andExpect(status().isForbidden());
+    mvc.perform(get("/orders/{orderId}/events", order.orderId()).with(loginAs("admin@example.com", UserRole.ADMIN)))
+        .andExpect(request().asyncStarted());
+  }
+}
@@ -0,0 +1,114 @@
+package com.back.teamcoffee.domain.order.order.controller;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderProductReq;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// writer 스레드가 별도 트랜잭션으로 저장하므로 @Transactional 없이 실행하고 직접 정리한다
+@ActiveProfiles("test")
+@SpringBootTest(properties = "app.order.intake.enabled=true")
+@AutoConfigureMockMvc(addFilters = false)
+class OrderIntakeControllerTest {
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  private Product product;
+
+  @BeforeEach
+  void setUp() {
+    product = productRepository.save(new Product("커피1", 4500, "커피콩", 0, "img.png", 3, LocalDateTime.now()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    orderRepository.deleteAll();
+    productRepository.deleteAll();
+  }
+
+  private String intake() throws Exception {
+    OrderWriteReqBody body = new OrderWriteReqBody(
+        List.of(new OrderProductReq(String.valueOf(product.getProductId()), 1)),
+        "intake@example.com",
+        "서울시 강남구 역삼동 123-45");
+    String response = mvc.perform(post("/orders/intake")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(body)))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.resultCode").value("202-ACCEPTED"))
+        .andReturn().getResponse().getContentAsString();
+    return JsonPath.read(response, "$.data.intakeId");
+  }
+
+  // 대기(202)가 끝날 때까지 결과 조회
+  private MockHttpServletResponse awaitResult(String intakeId) throws Exception {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (true) {
+      MockHttpServletResponse response = mvc.perform(get("/orders/intake/{intakeId}", intakeId))
+          .andReturn().getResponse();
+      if (response.getStatus() != 202 || System.currentTimeMillis() > deadline) {
+        return response;
+      }
+      Thread.sleep(20);
+    }
+  }
+
+  @Test
+  @DisplayName("접수한 주문은 비동기로 저장되고, 재고를 넘는 주문만 재고 부족으로 처리")
+  void t1() throws Exception {
+    List<String> intakeIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      intakeIds.add(intake());
+    }
+
+    List<Integer> statuses = new ArrayList<>();
+    for (String intakeId : intakeIds) {
+      statuses.add(awaitResult(intakeId).getStatus());
+    }
+
+    assertThat(statuses).containsExactly(201, 201, 201, 409, 409);
+    assertThat(orderRepository.count()).isEqualTo(3);
+    assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStock()).isZero();
+  }
+
+  @Test
+  @DisplayName("모르는 접수 ID 는 404")
+  void t2() throws Exception {
+    mvc.perform(get("/orders/intake/{intakeId}", "unknown"))
+        .andExpect(status().isNotFound());
+  }
+}
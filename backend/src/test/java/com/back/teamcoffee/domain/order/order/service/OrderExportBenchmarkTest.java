@@ -0,0 +1,148 @@
+package com.back.teamcoffee.domain.order.order.service;
+
+import com.back.teamcoffee.domain.order.order.dto.ShippingExportFormat;
+import com.back.teamcoffee.domain.order.order.dto.ShippingWindow;
+import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.domain.user.entity.User;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import com.back.teamcoffee.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 10만 건 배송 배치를 내보내는 동안 힙 사용량이 늘지 않는지 측정 (./gradlew perfTest)
+@Slf4j
+@Tag("perf")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:export_bench;LAZY_QUERY_EXECUTION=1")
+class OrderExportBenchmarkTest {
+  private static final int ORDER_COUNT = 100_000;
+  private static final int INSERT_CHUNK = 5_000;
+  private static final long MAX_HEAP_GROWTH = 64L * 1024 * 1024;
+
+  @Autowired
+  private OrderExportService orderExportService;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void setUp() {
+    User user = userRepository.save(User.builder()
+        .email("bench@example.com")
+        .password("password")
+        .name("bench")
+        .address("서울시 강남구 역삼동 123-45")
+        .role(UserRole.USER)
+        .build());
+    Product product = productRepository.save(new Product("에티오피아 예가체프", 18000, "커피콩", 0, "img.png", 1_000_000, LocalDateTime.now()));
+
+    Timestamp createdAt = Timestamp.valueOf(ShippingWindow.today().from().plusMinutes(1));
+    // 풀 커넥션이 auto-commit=false 이므로 청크마다 트랜잭션으로 커밋
+    for (int start = 1; start <= ORDER_COUNT; start += INSERT_CHUNK) {
+      List<Object[]> orders = new ArrayList<>();
+      List<Object[]> items = new ArrayList<>();
+      for (long id = start; id < start + INSERT_CHUNK; id++) {
+        orders.add(new Object[]{id, "", 2, "에티오피아 예가체프 외 0개", 36000, "서울시 강남구 역삼동 " + (id % 500) + "번지",
+            createdAt, createdAt, false, "주문 접수", 0, user.getEmail()});
+        items.add(new Object[]{id, 2, 18000, 36000, id, product.getProductId()});
+      }
+      transactionTemplate.executeWithoutResult(status -> {
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO "order" (order_id, user_id, order_count, product_name, total_price, address,
+                                 created_at, modified_at, delivery_status, order_status, product_id, email)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """, orders);
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO order_item (order_item_id, order_count, product_price, total_price, order_id, product_id)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """, items);
+      });
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.update("DELETE FROM order_item");
+      jdbcTemplate.update("DELETE FROM \"order\"");
+    });
+    productRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("10만 건 배송 배치 NDJSON 내보내기 중 힙 증가량이 일정 범위 이내")
+  void t1() throws Exception {
+    HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+    long startedAt = System.nanoTime();
+
+    long rows = orderExportService.exportTodayShipping(ShippingExportFormat.NDJSON, true, out);
+
+    long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+    log.info("export rows={} bytes={} elapsed={}ms baselineHeap={}MB peakHeap={}MB",
+        rows, out.written, elapsedMs, out.baseline >> 20, out.peak >> 20);
+
+    assertThat(rows).isEqualTo(ORDER_COUNT);
+    assertThat(out.peak - out.baseline).isLessThan(MAX_HEAP_GROWTH);
+  }
+
+  // 1MB 쓸 때마다 GC 후 사용 중인 힙을 샘플링
+  private static class HeapSamplingOutputStream extends OutputStream {
+    private static final long SAMPLE_BYTES = 1024 * 1024;
+    private final long baseline = usedHeap();
+    private long peak = baseline;
+    private long written;
+    private long nextSample = SAMPLE_BYTES;
+
+    @Override
+    public void write(int b) {
+      count(1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      count(len);
+    }
+
+    private void count(int len) {
+      written += len;
+      if (written >= nextSample) {
+        nextSample += SAMPLE_BYTES;
+        peak = Math.max(peak, usedHeap());
+      }
+    }
+
+    private static long usedHeap() {
+      System.gc();
+      Runtime runtime = Runtime.getRuntime();
+      return runtime.totalMemory() - runtime.freeMemory();
+    }
+  }
+}
@@ -0,0 +1,279 @@
+package com.back.teamcoffee.domain.order.order.service;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderProductReq;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.domain.user.entity.User;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import com.back.teamcoffee.domain.user.repository.UserRepository;
+import com.back.teamcoffee.global.exception.BadRequestException;
+import com.back.teamcoffee.global.exception.IdempotencyConflictException;
+import com.back.teamcoffee.global.exception.OutOfStockException;
+import com.back.teamcoffee.global.idempotency.IdempotencyKeyStore;
+import com.back.teamcoffee.global.rsdata.RsData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 트랜잭션 커밋까지 실제로 일어나야 하므로 @Transactional 없이 실행하고 직접 정리한다
+@ActiveProfiles("test")
+@SpringBootTest
+class OrderServiceTest {
+
+  @Autowired
+  private OrderService orderService;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  private User user;
+
+  @BeforeEach
+  void setUp() {
+    user = userRepository.save(User.builder()
+        .email("stock@example.com")
+        .password("password")
+        .name("stockuser")
+        .address("서울시 강남구 역삼동 123-45")
+        .role(UserRole.USER)
+        .build());
+  }
+
+  @AfterEach
+  void tearDown() {
+    orderRepository.deleteAll();
+    productRepository.deleteAll();
+    userRepository.deleteAll();
+  }
+
+  private Product saveProduct(String name, int stock) {
+    return productRepository.save(new Product(name, 4500, "커피콩", 0, "img.png", stock, LocalDateTime.now()));
+  }
+
+  private OrderWriteReqBody orderOf(OrderProductReq... products) {
+    return new OrderWriteReqBody(List.of(products), user.getEmail(), "서울시 강남구 역삼동 123-45");
+  }
+
+  @Test
+  @DisplayName("동시 주문이 몰려도 재고는 음수가 되지 않고 재고 수만큼만 주문 성공")
+  void t1() throws Exception {
+    int stock = 50;
+    int requestCount = 300;
+    Product product = saveProduct("에티오피아 예가체프", stock);
+
+    ExecutorService executor = Executors.newFixedThreadPool(32);
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(requestCount);
+    AtomicInteger success = new AtomicInteger();
+    AtomicInteger outOfStock = new AtomicInteger();
+
+    for (int i = 0; i < requestCount; i++) {
+      executor.submit(() -> {
+        try {
+          start.await();
+          orderService.write(orderOf(new OrderProductReq(String.valueOf(product.getProductId()), 1)));
+          success.incrementAndGet();
+        } catch (OutOfStockException e) {
+          outOfStock.incrementAndGet();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+    start.countDown();
+    assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+    executor.shutdown();
+
+    Product reloaded = productRepository.findById(product.getProductId()).orElseThrow();
+    assertThat(reloaded.getStock()).isZero();
+    assertThat(success.get()).isEqualTo(stock);
+    assertThat(outOfStock.get()).isEqualTo(requestCount - stock);
+    assertThat(orderRepository.count()).isEqualTo(stock);
+  }
+
+  @Test
+  @DisplayName("한 상품이라도 재고가 부족하면 주문 전체가 실패하고 다른 상품 재고도 그대로 유지")
+  void t2() {
+    Product enough = saveProduct("콜롬비아 수프레모", 10);
+    Product soldOut = saveProduct("케냐 AA", 0);
+
+    assertThatThrownBy(() -> orderService.write(orderOf(
+        new OrderProductReq(String.valueOf(enough.getProductId()), 3),
+        new OrderProductReq(String.valueOf(soldOut.getProductId()), 1)
+    ))).isInstanceOf(OutOfStockException.class);
+
+    assertThat(productRepository.findById(enough.getProductId()).orElseThrow().getStock()).isEqualTo(10);
+    assertThat(orderRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("같은 Idempotency-Key 로 동시에 주문하면 한 번만 생성되고 모두 같은 응답을 받음")
+  void t3() throws Exception {
+    Product product = saveProduct("과테말라 안티구아", 100);
+    OrderWriteReqBody body = orderOf(new OrderProductReq(String.valueOf(product.getProductId()), 2));
+    String key = UUID.randomUUID().toString();
+    int requestCount = 20;
+
+    ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+    CountDownLatch start = new CountDownLatch(1);
+    List<IdempotencyKeyStore.Result> results = new CopyOnWriteArrayList<>();
+    for (int i = 0; i < requestCount; i++) {
+      executor.submit(() -> {
+        start.await();
+        results.add(orderService.writeOnce(user.getEmail(), key, body));
+        return null;
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(results).hasSize(requestCount);
+    assertThat(results).filteredOn(result -> !result.replayed()).hasSize(1);
+    byte[] first = results.get(0).body();
+    assertThat(results).allSatisfy(result -> assertThat(result.body()).isEqualTo(first));
+    assertThat(orderRepository.count()).isEqualTo(1);
+    assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStock()).isEqualTo(98);
+  }
+
+  @Test
+  @DisplayName("같은 Idempotency-Key 로 다른 주문을 보내면 거절")
+  void t4() {
+    Product product = saveProduct("브라질 산토스", 100);
+    String key = UUID.randomUUID().toString();
+    orderService.writeOnce(user.getEmail(), key, orderOf(new OrderProductReq(String.valueOf(product.getProductId()), 1)));
+
+    assertThatThrownBy(() -> orderService.writeOnce(user.getEmail(), key, orderOf(new OrderProductReq(String.valueOf(product.getProductId()), 3))))
+        .isInstanceOf(IdempotencyConflictException.class);
+    assertThat(orderRepository.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("실패한 요청의 Idempotency-Key 는 재시도 시 다시 실행")
+  void t5() {
+    Product product = saveProduct("코스타리카 따라주", 0);
+    OrderWriteReqBody body = orderOf(new OrderProductReq(String.valueOf(product.getProductId()), 1));
+    String key = UUID.randomUUID().toString();
+
+    assertThatThrownBy(() -> orderService.writeOnce(user.getEmail(), key, body)).isInstanceOf(OutOfStockException.class);
+
+    product.setStock(5);
+    productRepository.save(product);
+    assertThat(orderService.writeOnce(user.getEmail(), key, body).replayed()).isFalse();
+    assertThat(orderRepository.count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("배치 저장은 재고가 닿는 주문까지 요청 순서대로 생성하고 나머지 주문만 실패")
+  void t6() {
+    Product product = saveProduct("인도네시아 만델링", 3);
+    OrderWriteReqBody body = orderOf(new OrderProductReq(String.valueOf(product.getProductId()), 1));
+    OrderWriteReqBody unknown = orderOf(new OrderProductReq("999999", 1));
+
+    List<RsData<OrderDto>> results = orderService.writeBatch(List.of(body, body, unknown, body, body));
+
+    assertThat(results).extracting(RsData::resultCode)
+        .containsExactly("201-CREATED", "201-CREATED", "400-BAD-REQUEST", "201-CREATED", "409-OUT-OF-STOCK");
+    assertThat(orderRepository.count()).isEqualTo(3);
+    assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStock()).isZero();
+  }
+
+  @Test
+  @DisplayName("없는 상품을 주문하면 400 으로 거절하고 다른 상품 재고는 그대로 유지")
+  void t7() {
+    Product product = saveProduct("과테말라 안티구아", 5);
+
+    assertThatThrownBy(() -> orderService.write(orderOf(
+        new OrderProductReq(String.valueOf(product.getProductId()), 1),
+        new OrderProductReq("999999", 1)
+    ))).isInstanceOf(BadRequestException.class);
+
+    assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStock()).isEqualTo(5);
+    assertThat(orderRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("배치 저장에서 뒤 상품 재고가 모자라 거절된 주문이 먼저 예약한 재고는 되돌린다")
+  void t8() {
+    Product beans = saveProduct("브라질 산토스", 10);
+    Product limited = saveProduct("파나마 게이샤", 1);
+    OrderWriteReqBody both = orderOf(
+        new OrderProductReq(String.valueOf(beans.getProductId()), 1),
+        new OrderProductReq(String.valueOf(limited.getProductId()), 1));
+    OrderWriteReqBody beansOnly = orderOf(new OrderProductReq(String.valueOf(beans.getProductId()), 1));
+
+    List<RsData<OrderDto>> results = orderService.writeBatch(List.of(both, both, beansOnly));
+
+    assertThat(results).extracting(RsData::resultCode)
+        .containsExactly("201-CREATED", "409-OUT-OF-STOCK", "201-CREATED");
+    assertThat(productRepository.findById(beans.getProductId()).orElseThrow().getStock()).isEqualTo(8);
+    assertThat(productRepository.findById(limited.getProductId()).orElseThrow().getStock()).isZero();
+    assertThat(orderRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Idempotency-Key 는 요청자별로 관리되어 다른 사용자의 같은 키와 섞이지 않음")
+  void t9() {
+    Product product = saveProduct("르완다 부분디", 100);
+    String key = UUID.randomUUID().toString();
+    OrderWriteReqBody other = new OrderWriteReqBody(
+        List.of(new OrderProductReq(String.valueOf(product.getProductId()), 1)), "other@example.com", "서울시 서초구");
+
+    IdempotencyKeyStore.Result mine = orderService.writeOnce(user.getEmail(), key, orderOf(new OrderProductReq(String.valueOf(product.getProductId()), 1)));
+    IdempotencyKeyStore.Result theirs = orderService.writeOnce("other@example.com", key, other);
+
+    assertThat(mine.replayed()).isFalse();
+    assertThat(theirs.replayed()).isFalse();
+    assertThat(theirs.body()).isNotEqualTo(mine.body());
+    assertThat(orderRepository.count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("주문을 취소하면 예약했던 재고가 돌아온다")
+  void t10() {
+    Product beans = saveProduct("에티오피아 예가체프", 10);
+    Product limited = saveProduct("파나마 게이샤", 3);
+
+    OrderDto created = orderService.write(orderOf(
+        new OrderProductReq(String.valueOf(limited.getProductId()), 2),
+        new OrderProductReq(String.valueOf(beans.getProductId()), 3),
+        new OrderProductReq(String.valueOf(limited.getProductId()), 1)
+    )).data();
+    assertThat(productRepository.findById(beans.getProductId()).orElseThrow().getStock()).isEqualTo(7);
+    assertThat(productRepository.findById(limited.getProductId()).orElseThrow().getStock()).isZero();
+
+    orderService.deleteOrder(created.orderId());
+
+    assertThat(productRepository.findById(beans.getProductId()).orElseThrow().getStock()).isEqualTo(10);
+    assertThat(productRepository.findById(limited.getProductId()).orElseThrow().getStock()).isEqualTo(3);
+    assertThat(orderRepository.count()).isZero();
+  }
+}
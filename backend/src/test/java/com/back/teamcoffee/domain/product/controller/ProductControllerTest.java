@@ -3,24 +3,33 @@ package com.back.teamcoffee.domain.product.controller;
 import com.back.teamcoffee.domain.product.dto.ProductDto;
 import com.back.teamcoffee.domain.product.entity.Product;
 import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.global.cache.CacheConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -39,6 +48,15 @@ class ProductControllerTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    // 테스트는 롤백되지만 캐시는 남으므로 매 테스트 전에 비운다
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
     private Product saveProduct(String name, int price, int stock) {
         Product product = new Product(name, price, "커피콩", 0, "img.png", stock, LocalDateTime.now());
         return productRepository.save(product);
@@ -270,4 +288,109 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.data").isArray())
                 .andExpect(jsonPath("$.data.length()").value(0));
     }
+
+    // 캐시는 커밋 후에 비워지므로 테스트 트랜잭션 없이 실행하고 직접 정리한다
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("상품 메뉴 캐시 - 재조회는 캐시 적중, 상품 등록 커밋 후 무효화")
+    void t14() throws Exception {
+        try {
+            saveSampleProducts();
+            CaffeineCache menuCache = (CaffeineCache) cacheManager.getCache(CacheConfig.PRODUCT_MENU);
+            long hitCount = menuCache.getNativeCache().stats().hitCount();
+
+            mvc.perform(get("/products/menu"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(2));
+
+            // 리포지토리로 직접 저장하면 캐시 무효화를 거치지 않으므로 캐시된 응답이 유지된다
+            saveProduct("커피3", 5000, 10);
+
+            mvc.perform(get("/products/menu"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(2));
+            assertThat(menuCache.getNativeCache().stats().hitCount()).isEqualTo(hitCount + 1);
+
+            ProductDto dto = new ProductDto(
+                    null, "커피4", 5000,
+                    "커피콩", 0, "img.png", 30,
+                    LocalDateTime.now()
+            );
+            mvc.perform(post("/products")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isCreated());
+
+            mvc.perform(get("/products/menu"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.length()").value(4));
+        } finally {
+            productRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("data URI 이미지는 목록에서 URL 로만 내려가고 이미지 엔드포인트에서 ETag 와 함께 제공")
+    void t15() throws Exception {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3, 4};
+        String dataUri = "data:image/png;base64," + Base64.getEncoder().encodeToString(png);
+        ProductDto dto = new ProductDto(
+                null, "이미지커피", 5000,
+                "커피콩", 0, dataUri, 30,
+                LocalDateTime.now()
+        );
+
+        mvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+
+        Product saved = productRepository.findAll()
+                .stream()
+                .filter(p -> p.getProductName().equals("이미지커피"))
+                .findFirst()
+                .orElseThrow();
+        String imageUrl = saved.getProductImage();
+        assertThat(imageUrl).startsWith("/products/" + saved.getProductId() + "/image?v=");
+
+        mvc.perform(get("/products/{id}", saved.getProductId()))
+                .andExpect(jsonPath("$.data.productImage").value(imageUrl));
+
+        String eTag = mvc.perform(get(imageUrl))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.IMAGE_PNG))
+                .andExpect(content().bytes(png))
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mvc.perform(get(imageUrl).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("상품 수정은 재고를 증감분으로 반영하고 누적 주문 수는 덮어쓰지 않는다")
+    void t16() throws Exception {
+        Product product = saveProduct("커피", 4000, 10);
+        productRepository.increaseOrderCount(product.getProductId(), 7);
+
+        ProductDto updateDto = new ProductDto(
+                product.getProductId(), "수정커피", 4500,
+                "수정 커피콩", 0, "img.png", 25,
+                LocalDateTime.now()
+        );
+
+        mvc.perform(put("/products/{id}", product.getProductId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.stock").value(25))
+                .andExpect(jsonPath("$.data.orderCount").value(7));
+
+        Product updated = productRepository.findById(product.getProductId()).orElseThrow();
+        assertThat(updated.getProductName()).isEqualTo("수정커피");
+        assertThat(updated.getStock()).isEqualTo(25);
+        assertThat(updated.getOrderCount()).isEqualTo(7);
+    }
 }
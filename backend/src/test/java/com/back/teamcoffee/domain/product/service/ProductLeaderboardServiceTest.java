@@ -0,0 +1,206 @@
+package com.back.teamcoffee.domain.product.service;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderProductReq;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.entity.Order;
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.order.order.service.OrderService;
+import com.back.teamcoffee.domain.order.orderItem.entity.OrderItem;
+import com.back.teamcoffee.domain.product.dto.TopProductDto;
+import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.global.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 애플리케이션의 순위 빈은 다른 테스트의 주문도 세므로, 주기 작업이 돌지 않는 인스턴스를 따로 만들어 검증한다
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductLeaderboardServiceTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private ProductLeaderboardService leaderboard;
+    private Product latte;
+    private Product mocha;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new ProductLeaderboardService(productService, Duration.ofHours(1), Duration.ofHours(1), 3);
+        latte = productRepository.save(new Product("라떼", 4000, "우유", 0, "latte.png", 100, LocalDateTime.now()));
+        mocha = productRepository.save(new Product("모카", 5000, "초코", 0, "mocha.png", 100, LocalDateTime.now()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaderboard.destroy();
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    // 저장하지 않은 주문 (순위 집계는 주문 아이템의 상품과 수량만 본다)
+    private Order order(Product product, int count) {
+        Order order = Order.builder()
+                .user("")
+                .orderCount(count)
+                .productName(product.getProductName())
+                .totalPrice(product.getPrice() * count)
+                .address("서울시 강남구")
+                .email("top@example.com")
+                .build();
+        order.addOrderItem(OrderItem.builder()
+                .order(order)
+                .product(product)
+                .productPrice(product.getPrice())
+                .totalPrice(product.getPrice() * count)
+                .orderCount(count)
+                .build());
+        return order;
+    }
+
+    private List<TopProductDto> top(String window) {
+        return leaderboard.getTopProducts(window, 10).getData();
+    }
+
+    @Test
+    @DisplayName("주문 수량순으로 상위 상품을 돌려준다")
+    void t1() {
+        leaderboard.recordOrdered(order(latte, 2));
+        leaderboard.recordOrdered(order(mocha, 1));
+        leaderboard.recordOrdered(order(latte, 1));
+        leaderboard.refresh();
+
+        List<TopProductDto> expected = List.of(
+                new TopProductDto(latte.getProductId(), "라떼", 3),
+                new TopProductDto(mocha.getProductId(), "모카", 1));
+        assertThat(top("24h")).isEqualTo(expected);
+        assertThat(top("1h")).isEqualTo(expected);
+        assertThat(leaderboard.getTopProducts("1h", 1).getData()).containsExactly(expected.getFirst());
+        assertThatThrownBy(() -> leaderboard.getTopProducts("7d", 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("창을 벗어난 주문은 순위에서 빠진다")
+    void t2() {
+        long now = System.currentTimeMillis();
+        leaderboard.recordOrdered(order(latte, 2));
+        leaderboard.refresh(now);
+
+        leaderboard.refresh(now + TimeUnit.HOURS.toMillis(2));
+        assertThat(top("1h")).isEmpty();
+        assertThat(top("24h")).containsExactly(new TopProductDto(latte.getProductId(), "라떼", 2));
+
+        leaderboard.refresh(now + TimeUnit.HOURS.toMillis(25));
+        assertThat(top("24h")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("취소된 주문 수량은 순위에서 빠진다")
+    void t3() {
+        leaderboard.recordOrdered(order(latte, 2));
+        long orderId = orderService.write(new OrderWriteReqBody(
+                List.of(new OrderProductReq(mocha.getProductId().toString(), 3)), "top@example.com", "서울시 강남구")).getData().orderId();
+        Order ordered = orderRepository.findByIdWithItems(orderId).orElseThrow();
+        leaderboard.recordOrdered(ordered);
+        leaderboard.refresh();
+        assertThat(top("24h")).extracting(TopProductDto::productId).containsExactly(mocha.getProductId(), latte.getProductId());
+
+        orderService.deleteOrder(orderId);
+        leaderboard.recordCanceled(ordered);
+        leaderboard.refresh();
+
+        assertThat(top("24h")).containsExactly(new TopProductDto(latte.getProductId(), "라떼", 2));
+    }
+
+    @Test
+    @DisplayName("누적 수량은 flush 때 Product.orderCount 에 반영되고, 삭제된 상품은 순위에서 빠진다")
+    void t4() {
+        leaderboard.recordOrdered(order(latte, 2));
+        leaderboard.recordOrdered(order(latte, 1));
+        leaderboard.recordOrdered(order(mocha, 4));
+
+        assertThat(leaderboard.flush()).isEqualTo(2);
+        assertThat(productRepository.findById(latte.getProductId()).orElseThrow().getOrderCount()).isEqualTo(3);
+        assertThat(productRepository.findById(mocha.getProductId()).orElseThrow().getOrderCount()).isEqualTo(4);
+        assertThat(leaderboard.flush()).isZero();
+
+        productRepository.delete(mocha);
+        leaderboard.recordOrdered(order(mocha, 1));
+        leaderboard.flush();
+        leaderboard.refresh();
+
+        assertThat(top("24h")).containsExactly(new TopProductDto(latte.getProductId(), "라떼", 3));
+    }
+
+    @Test
+    @DisplayName("1시간 창을 벗어난 주문을 취소해도 1시간 순위는 그대로다")
+    void t5() {
+        long now = System.currentTimeMillis();
+        long orderId = orderService.write(new OrderWriteReqBody(
+                List.of(new OrderProductReq(mocha.getProductId().toString(), 3)), "top@example.com", "서울시 강남구")).getData().orderId();
+        Order ordered = orderRepository.findByIdWithItems(orderId).orElseThrow();
+        leaderboard.recordOrdered(ordered);
+        leaderboard.refresh(now);
+
+        long later = now + TimeUnit.HOURS.toMillis(2);
+        leaderboard.recordOrdered(order(mocha, 1), later);
+        leaderboard.refresh(later);
+        assertThat(top("1h")).containsExactly(new TopProductDto(mocha.getProductId(), "모카", 1));
+        assertThat(top("24h")).containsExactly(new TopProductDto(mocha.getProductId(), "모카", 4));
+
+        // 2시간 전 주문 취소 (주문 시각의 구간은 1시간 창에서 이미 빠졌다)
+        leaderboard.recordCanceled(ordered);
+        leaderboard.refresh(later);
+
+        assertThat(top("1h")).containsExactly(new TopProductDto(mocha.getProductId(), "모카", 1));
+        assertThat(top("24h")).containsExactly(new TopProductDto(mocha.getProductId(), "모카", 1));
+    }
+
+    @Test
+    @DisplayName("취소는 주문을 센 구간에서 빠지므로 그 구간이 창을 벗어나도 합계가 음수가 되지 않는다")
+    void t6() {
+        long orderedAt = System.currentTimeMillis();
+        Order ordered = order(mocha, 2);
+        leaderboard.recordOrdered(ordered, orderedAt);
+        leaderboard.refresh(orderedAt);
+
+        // 50분 뒤 취소
+        leaderboard.recordCanceled(ordered, orderedAt);
+        leaderboard.refresh(orderedAt + TimeUnit.MINUTES.toMillis(50));
+        assertThat(top("1h")).isEmpty();
+
+        long newOrderAt = orderedAt + TimeUnit.MINUTES.toMillis(55);
+        leaderboard.recordOrdered(order(mocha, 1), newOrderAt);
+        leaderboard.refresh(newOrderAt);
+        assertThat(top("1h")).containsExactly(new TopProductDto(mocha.getProductId(), "모카", 1));
+
+        // 처음 주문의 구간이 1시간 창을 벗어난 뒤에도 새 주문 수량은 그대로
+        leaderboard.refresh(orderedAt + TimeUnit.MINUTES.toMillis(62));
+        assertThat(top("1h")).containsExactly(new TopProductDto(mocha.getProductId(), "모카", 1));
+        assertThat(top("24h")).containsExactly(new TopProductDto(mocha.getProductId(), "모카", 1));
+    }
+}
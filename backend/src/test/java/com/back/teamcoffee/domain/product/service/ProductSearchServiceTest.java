@@ -0,0 +1,111 @@
+package com.back.teamcoffee.domain.product.service;
+
+import com.back.teamcoffee.domain.product.dto.ProductDto;
+import com.back.teamcoffee.domain.product.dto.ProductMenuDto;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.global.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 색인은 커밋 후 이벤트로 반영되므로 @Transactional 없이 실행하고 직접 정리한다
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductSearchServiceTest {
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long americano;
+    private Long latte;
+    private Long vanillaLatte;
+
+    @BeforeEach
+    void setUp() {
+        // 다른 테스트가 저장소에서 직접 지운 상품이 색인에 남지 않게 DB 와 맞춘다
+        productRepository.deleteAll();
+        productSearchService.rebuild();
+        americano = create("아메리카노", "에스프레소에 물을 더한 커피");
+        latte = create("카페라떼", "우유가 들어간 커피");
+        vanillaLatte = create("바닐라 라떼", "바닐라 시럽을 넣은 라떼");
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        productSearchService.rebuild();
+    }
+
+    private Long create(String name, String description) {
+        return productService.createProduct(new ProductDto(null, name, 4000, description, 0, "img.png", 10, LocalDateTime.now()))
+                .getData().productId();
+    }
+
+    private List<String> search(String query) {
+        return productSearchService.search(query, 10).getData().stream()
+                .map(ProductMenuDto::productName)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("접두어와 입력 중인 글자로 검색된다")
+    void t1() {
+        assertThat(search("아메")).containsExactly("아메리카노");
+        // "아메리" 를 입력하는 도중 (ㄹ 이 받침으로 붙은 상태)
+        assertThat(search("아멜")).containsExactly("아메리카노");
+        assertThat(search("ㅇ")).contains("아메리카노");
+    }
+
+    @Test
+    @DisplayName("이름에서 맞은 상품이 설명에서만 맞은 상품보다 앞선다")
+    void t2() {
+        assertThat(search("라떼")).containsExactly("바닐라 라떼", "카페라떼");
+        assertThat(search("바닐라")).first().isEqualTo("바닐라 라떼");
+        assertThat(search("커피")).containsExactlyInAnyOrder("아메리카노", "카페라떼");
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 검색된다")
+    void t3() {
+        assertThat(search("아메라카노")).first().isEqualTo("아메리카노");
+        assertThat(search("americano")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상품 수정/삭제가 바로 반영된다")
+    void t4() {
+        productService.updateProduct(latte, new ProductDto(latte, "카페모카", 4500, "초코 시럽을 넣은 커피", 0, "img.png", 10, LocalDateTime.now()));
+        assertThat(search("모카")).containsExactly("카페모카");
+        assertThat(search("라떼")).containsExactly("바닐라 라떼");
+
+        productService.deleteProduct(americano);
+        assertThat(search("아메리카노")).isEmpty();
+        assertThat(productSearchService.search("바닐라", 10).getData())
+                .extracting(ProductMenuDto::productId).containsExactly(vanillaLatte);
+    }
+
+    @Test
+    @DisplayName("빈 검색어나 너무 긴 검색어는 400")
+    void t5() {
+        assertThatThrownBy(() -> productSearchService.search(" ", 10))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> productSearchService.search("커".repeat(101), 10))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
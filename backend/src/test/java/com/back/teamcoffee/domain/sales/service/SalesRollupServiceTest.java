@@ -0,0 +1,154 @@
+package com.back.teamcoffee.domain.sales.service;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderDto;
+import com.back.teamcoffee.domain.order.order.dto.OrderProductReq;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.order.order.service.OrderService;
+import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.domain.sales.dto.DailySalesDto;
+import com.back.teamcoffee.domain.sales.dto.ProductSalesDto;
+import com.back.teamcoffee.domain.sales.repository.DailyProductSalesRepository;
+import com.back.teamcoffee.domain.sales.repository.DailySalesRepository;
+import com.back.teamcoffee.domain.sales.repository.SalesOutboxRepository;
+import com.back.teamcoffee.global.exception.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// outbox 반영은 커밋된 주문 기준이므로 @Transactional 없이 실행하고 직접 정리한다
+// 백그라운드 반영이 같이 돌 수 있어 반영 건수 대신 집계 결과만 검증
+@ActiveProfiles("test")
+@SpringBootTest
+class SalesRollupServiceTest {
+
+    @Autowired
+    private SalesRollupService salesRollupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private SalesOutboxRepository salesOutboxRepository;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    private final LocalDate today = LocalDate.now();
+    private Product latte;
+    private Product mocha;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+        latte = productRepository.save(new Product("라떼", 4000, "우유", 0, "latte.png", 100, LocalDateTime.now()));
+        mocha = productRepository.save(new Product("모카", 5000, "초코", 0, "mocha.png", 100, LocalDateTime.now()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+        productRepository.deleteAll();
+    }
+
+    // 다른 테스트가 남긴 outbox 까지 반영한 뒤 집계를 비운다
+    private void clear() {
+        orderRepository.deleteAll();
+        salesRollupService.drainOutbox();
+        salesOutboxRepository.deleteAllInBatch();
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
+    }
+
+    private OrderDto order(OrderProductReq... products) {
+        return orderService.write(new OrderWriteReqBody(List.of(products), "sales@example.com", "서울시 강남구")).getData();
+    }
+
+    private DailySalesDto todaySales() {
+        List<DailySalesDto> daily = salesRollupService.getDailySales(today, today).getData();
+        assertThat(daily).hasSize(1);
+        return daily.getFirst();
+    }
+
+    @Test
+    @DisplayName("주문 생성분이 일별/상품별 매출에 반영된다")
+    void t1() {
+        order(new OrderProductReq(latte.getProductId().toString(), 2), new OrderProductReq(mocha.getProductId().toString(), 1));
+        order(new OrderProductReq(latte.getProductId().toString(), 1));
+
+        salesRollupService.drainOutbox();
+
+        assertThat(salesOutboxRepository.count()).isZero();
+        assertThat(todaySales()).isEqualTo(new DailySalesDto(today, 2, 4, 17000));
+
+        List<ProductSalesDto> products = salesRollupService.getTopProducts(today, today, 10).getData();
+        assertThat(products).containsExactly(
+                new ProductSalesDto(latte.getProductId(), "라떼", 2L, 3L, 12000L),
+                new ProductSalesDto(mocha.getProductId(), "모카", 1L, 1L, 5000L));
+    }
+
+    @Test
+    @DisplayName("주문 취소분은 매출에서 빠진다")
+    void t2() {
+        order(new OrderProductReq(latte.getProductId().toString(), 2));
+        OrderDto cancelled = order(new OrderProductReq(mocha.getProductId().toString(), 3));
+        salesRollupService.drainOutbox();
+
+        orderService.deleteOrder(cancelled.orderId());
+        salesRollupService.drainOutbox();
+
+        assertThat(todaySales()).isEqualTo(new DailySalesDto(today, 1, 2, 8000));
+        assertThat(salesRollupService.getTopProducts(today, today, 1).getData())
+                .containsExactly(new ProductSalesDto(latte.getProductId(), "라떼", 1L, 2L, 8000L));
+    }
+
+    @Test
+    @DisplayName("재집계하면 원본 주문 기준으로 집계가 다시 만들어진다")
+    void t3() {
+        order(new OrderProductReq(latte.getProductId().toString(), 2), new OrderProductReq(mocha.getProductId().toString(), 2));
+        order(new OrderProductReq(mocha.getProductId().toString(), 1));
+        salesRollupService.drainOutbox();
+        DailySalesDto drained = todaySales();
+
+        dailySalesRepository.deleteAllInBatch();
+        dailyProductSalesRepository.deleteAllInBatch();
+        assertThat(salesRollupService.getDailySales(today, today).getData()).isEmpty();
+
+        salesRollupService.backfill(today.minusDays(1), today);
+
+        assertThat(todaySales()).isEqualTo(drained).isEqualTo(new DailySalesDto(today, 2, 5, 23000));
+        assertThat(salesRollupService.getTopProducts(today, today, 10).getData()).containsExactly(
+                new ProductSalesDto(mocha.getProductId(), "모카", 2L, 3L, 15000L),
+                new ProductSalesDto(latte.getProductId(), "라떼", 1L, 2L, 8000L));
+    }
+
+    @Test
+    @DisplayName("기간이 잘못되면 400")
+    void t4() {
+        assertThatThrownBy(() -> salesRollupService.getDailySales(today, today.minusDays(1)))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> salesRollupService.backfill(today.minusYears(2), today))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
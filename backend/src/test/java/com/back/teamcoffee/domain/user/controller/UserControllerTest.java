@@ -20,7 +20,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -339,6 +342,94 @@ public class UserControllerTest {
         assert userRepository.findByEmail(testEmail).isEmpty();
     }
 
+    private MvcResult login() throws Exception {
+        return mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new UserLoginRequestDto(testEmail, testPassword))))
+                .andExpect(status().isOk())
+                .andReturn();
+    }
 
+    @Test
+    @DisplayName("토큰 재발급 - 리프레시 토큰으로 새 토큰 쌍을 받는다")
+    void t16() throws Exception {
+        Cookie refreshToken = login().getResponse().getCookie("RefreshToken");
 
+        MvcResult refreshed = mockMvc.perform(post("/users/refresh").cookie(refreshToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-OK"))
+                .andExpect(cookie().exists("AccessToken"))
+                .andExpect(cookie().exists("RefreshToken"))
+                .andReturn();
+
+        Cookie newAccessToken = refreshed.getResponse().getCookie("AccessToken");
+        Cookie newRefreshToken = refreshed.getResponse().getCookie("RefreshToken");
+        assertThat(newRefreshToken.getValue()).isNotEqualTo(refreshToken.getValue());
+
+        mockMvc.perform(get("/api/v1/wishlists/" + testEmail).cookie(newAccessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/users/refresh").cookie(newRefreshToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 이미 사용한 리프레시 토큰 / 액세스 토큰 / 토큰 없음")
+    void t17() throws Exception {
+        MvcResult loginResult = login();
+        Cookie accessToken = loginResult.getResponse().getCookie("AccessToken");
+        Cookie refreshToken = loginResult.getResponse().getCookie("RefreshToken");
+
+        mockMvc.perform(post("/users/refresh").cookie(refreshToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/users/refresh").cookie(refreshToken))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.resultCode").value("401-UNAUTHORIZED"));
+
+        mockMvc.perform(post("/users/refresh").cookie(new Cookie("RefreshToken", accessToken.getValue())))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/users/refresh"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰은 쿠키가 남아 있어도 쓸 수 없다")
+    void t18() throws Exception {
+        MvcResult loginResult = login();
+        Cookie accessToken = loginResult.getResponse().getCookie("AccessToken");
+        Cookie refreshToken = loginResult.getResponse().getCookie("RefreshToken");
+        mockMvc.perform(get("/api/v1/wishlists/" + testEmail).cookie(accessToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/users/logout").cookie(accessToken, refreshToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultCode").value("200-LOGOUT"));
+
+        mockMvc.perform(get("/api/v1/wishlists/" + testEmail).cookie(accessToken))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/users/refresh").cookie(refreshToken))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("토큰의 email 로 본인 확인 - 타인 위시리스트 403, email 없는 주문 조회는 본인 것")
+    void t19() throws Exception {
+        Cookie accessToken = login().getResponse().getCookie("AccessToken");
+
+        mockMvc.perform(get("/api/v1/wishlists/other@email.com").cookie(accessToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/orders/lists").cookie(accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orders").isArray());
+        mockMvc.perform(get("/orders/lists"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Basic 인증도 같은 principal 로 본인 확인")
+    void t20() throws Exception {
+        mockMvc.perform(get("/api/v1/wishlists/" + testEmail).with(httpBasic(testEmail, testPassword)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/wishlists/other@email.com").with(httpBasic(testEmail, testPassword)))
+                .andExpect(status().isForbidden());
+    }
 }
@@ -9,7 +9,12 @@ import com.back.teamcoffee.domain.wishlist.dto.WishListCreateDto;
 import com.back.teamcoffee.domain.wishlist.dto.WishListUpdateDto;
 import com.back.teamcoffee.domain.wishlist.entity.WishList;
 import com.back.teamcoffee.domain.wishlist.repository.WishListRepository;
+import com.back.teamcoffee.global.security.AuthUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,14 +22,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -51,6 +67,9 @@ class WishListControllerTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private EntityManager em;
+
     private User user;
     private Product product;
 
@@ -85,13 +104,15 @@ class WishListControllerTest {
         wishList1.setQuantity(1);
         wishListRepository.save(wishList1);
 
+        // 같은 상품은 사용자당 한 행이므로 (wish_list(email, product_id) unique) 다른 상품으로 담는다
+        Product product2 = productRepository.save(new Product("테스트상품2", 6000, "테스트용 상품", 0, "img.jpg", 100, LocalDateTime.now()));
         WishList wishList2 = new WishList();
-        wishList2.setProductId(product.getProductId());
+        wishList2.setProductId(product2.getProductId());
         wishList2.setEmail(email);
         wishList2.setQuantity(2);
         wishListRepository.save(wishList2);
 
-        mockMvc.perform(get("/api/v1/wishlists/{email}", email))
+        mockMvc.perform(get("/api/v1/wishlists/{email}", email).with(owner()))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.resultCode").value("200-1"))
@@ -106,6 +127,7 @@ class WishListControllerTest {
         WishListCreateDto createDto = new WishListCreateDto(product.getProductId(), 2);
 
         mockMvc.perform(post("/api/v1/wishlists/{email}", email)
+                        .with(owner())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(createDto)))
                 .andDo(print())
@@ -121,6 +143,51 @@ class WishListControllerTest {
         assertThat(wishLists.get(0).getQuantity()).isEqualTo(2);
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("같은 상품을 동시에 담아도 실패 없이 한 행에 수량이 합쳐진다")
+    void 위시리스트_동시_추가_테스트() throws Exception {
+        try {
+            String email = user.getEmail();
+            String body = objectMapper.writeValueAsString(new WishListCreateDto(product.getProductId(), 1));
+            int requestCount = 20;
+
+            ExecutorService executor = Executors.newFixedThreadPool(requestCount);
+            CountDownLatch start = new CountDownLatch(1);
+            List<String> messages = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    String content = mockMvc.perform(post("/api/v1/wishlists/{email}", email)
+                                    .with(owner())
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(body))
+                            .andExpect(status().isCreated())
+                            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+                    messages.add(JsonPath.read(content, "$.msg"));
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+            // 실패한 요청은 messages 에 남지 않는다
+            assertThat(messages).hasSize(requestCount);
+            assertThat(messages).filteredOn("위시리스트에 상품이 추가되었습니다."::equals).hasSize(1);
+            assertThat(messages).filteredOn("위시리스트 상품 수량이 증가되었습니다."::equals).hasSize(requestCount - 1);
+
+            List<WishList> wishLists = wishListRepository.findByEmail(email);
+            assertThat(wishLists).hasSize(1);
+            assertThat(wishLists.get(0).getQuantity()).isEqualTo(requestCount);
+        } finally {
+            // 커밋된 데이터라 직접 정리
+            wishListRepository.deleteAll();
+            userRepository.deleteAll();
+            productRepository.deleteAll();
+        }
+    }
+
     @Test
     @DisplayName("위시리스트 삭제 성공")
     void 위시리스트_삭제_테스트() throws Exception {
@@ -131,7 +198,7 @@ class WishListControllerTest {
         wishList.setQuantity(1);
         WishList saved = wishListRepository.save(wishList);
 
-        mockMvc.perform(delete("/api/v1/wishlists/{email}/{wishId}", email, saved.getWishId()))
+        mockMvc.perform(delete("/api/v1/wishlists/{email}/{wishId}", email, saved.getWishId()).with(owner()))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.resultCode").value("200-1"))
@@ -154,6 +221,7 @@ class WishListControllerTest {
         WishListUpdateDto updateDto = new WishListUpdateDto(5);
 
         mockMvc.perform(put("/api/v1/wishlists/{email}/{wishId}", email, saved.getWishId())
+                        .with(owner())
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateDto)))
                 .andDo(print())
@@ -165,4 +233,90 @@ class WishListControllerTest {
         WishList updated = wishListRepository.findById(saved.getWishId()).orElseThrow();
         assertThat(updated.getQuantity()).isEqualTo(5);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("위시리스트 조회 쿼리 수가 위시리스트 크기와 무관")
+    void 위시리스트_조회_쿼리수_테스트() throws Exception {
+        String email = user.getEmail();
+
+        long single = countStatementsForList(email, 1);
+        long many = countStatementsForList(email, 20);
+
+        assertThat(single).isEqualTo(1);
+        assertThat(many).isEqualTo(single);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 위시리스트 접근은 403")
+    void 위시리스트_타인_접근_테스트() throws Exception {
+        mockMvc.perform(get("/api/v1/wishlists/{email}", "other@coffee.com").with(owner()))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+
+        WishListCreateDto createDto = new WishListCreateDto(product.getProductId(), 1);
+        mockMvc.perform(post("/api/v1/wishlists/{email}", "other@coffee.com")
+                        .with(owner())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDto)))
+                .andExpect(status().isForbidden());
+
+        assertThat(wishListRepository.findByEmail("other@coffee.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("관리자는 다른 사용자의 위시리스트 조회 가능")
+    void 위시리스트_관리자_조회_테스트() throws Exception {
+        WishList wishList = new WishList();
+        wishList.setProductId(product.getProductId());
+        wishList.setEmail(user.getEmail());
+        wishList.setQuantity(1);
+        wishListRepository.save(wishList);
+
+        AuthUser admin = new AuthUser(user.getId() + 1, "admin@coffee.com", UserRole.ADMIN);
+        mockMvc.perform(get("/api/v1/wishlists/{email}", user.getEmail()).with(loginAs(admin)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없으면 401")
+    void 위시리스트_미인증_테스트() throws Exception {
+        mockMvc.perform(get("/api/v1/wishlists/{email}", user.getEmail()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    // 위시리스트를 size 개로 맞춘 뒤 조회 API 가 실행한 SQL 수를 반환
+    private long countStatementsForList(String email, int size) throws Exception {
+        wishListRepository.deleteAll();
+        for (int i = 0; i < size; i++) {
+            Product p = productRepository.save(new Product("상품" + i, 1000 + i, "쿼리 수 테스트", 0, "img.jpg", 10, LocalDateTime.now()));
+            WishList wishList = new WishList();
+            wishList.setProductId(p.getProductId());
+            wishList.setEmail(email);
+            wishList.setQuantity(1);
+            wishListRepository.save(wishList);
+        }
+        // 영속성 컨텍스트에 남은 상품이 조회를 대신하지 않도록 비움
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/v1/wishlists/{email}", email).with(owner()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(size));
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 필터를 끈 테스트라 JWT 필터가 만들 principal 을 SecurityContext 에 직접 넣는다
+    private RequestPostProcessor owner() {
+        return loginAs(new AuthUser(user.getId(), user.getEmail(), UserRole.USER));
+    }
+
+    private RequestPostProcessor loginAs(AuthUser authUser) {
+        return authentication(new UsernamePasswordAuthenticationToken(
+                authUser, null, List.of(new SimpleGrantedAuthority(authUser.role().name()))));
+    }
+}
@@ -0,0 +1,190 @@
+package com.back.teamcoffee.global.datasource;
+
+import com.back.teamcoffee.domain.order.order.dto.OrderProductReq;
+import com.back.teamcoffee.domain.order.order.dto.OrderWriteReqBody;
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import com.back.teamcoffee.global.security.AuthUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 쓰기 DB(testdb)와 읽기 DB(replica) 를 별도 H2 로 띄워 라우팅을 확인
+// 복제는 테스트가 직접 SCRIPT / RUNSCRIPT 로 흉내 내므로, 복제 이후의 쓰기는 replica 에 없다
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "app.datasource.read.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "app.datasource.read.lag-query=SELECT lag_seconds FROM replica_status",
+        "app.datasource.read.max-lag=5s",
+        // 테스트에서는 refresh() 를 직접 호출
+        "app.datasource.read.lag-check-interval=1h",
+        "app.datasource.read.sticky-window=1m"
+})
+@AutoConfigureMockMvc(addFilters = false)
+class ReadReplicaRoutingTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:testdb", "sa", ""));
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @TempDir
+    Path tempDir;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(new Product("커피1", 4500, "커피콩", 0, "img.png", 100, LocalDateTime.now()));
+        replicate();
+        setReplicaLag(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        productRepository.deleteAll();
+        replica.execute("DROP ALL OBJECTS");
+        replicaLagMonitor.refresh();
+    }
+
+    // 현재 쓰기 DB 상태를 읽기 DB 로 통째로 복사
+    private void replicate() {
+        String script = tempDir.resolve("primary.sql").toString().replace('\\', '/');
+        primary.execute("SCRIPT TO '" + script + "'");
+        replica.execute("DROP ALL OBJECTS");
+        replica.execute("RUNSCRIPT FROM '" + script + "'");
+        replica.execute("CREATE TABLE replica_status (lag_seconds DOUBLE)");
+        replica.update("INSERT INTO replica_status VALUES (0)");
+    }
+
+    private void setReplicaLag(double seconds) {
+        replica.update("UPDATE replica_status SET lag_seconds = ?", seconds);
+        replicaLagMonitor.refresh();
+    }
+
+    private long writeOrder(String email) throws Exception {
+        OrderWriteReqBody body = new OrderWriteReqBody(
+                List.of(new OrderProductReq(String.valueOf(product.getProductId()), 1)),
+                email,
+                "서울시 강남구 역삼동 123-45");
+        String response = mvc.perform(post("/orders/write")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(body)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(response, "$.data.orderId")).longValue();
+    }
+
+    @Test
+    @DisplayName("readOnly 조회는 읽기 DB 에서 읽음")
+    void t1() throws Exception {
+        replica.update("UPDATE product SET product_name = '복제본' WHERE product_id = ?", product.getProductId());
+
+        assertThat(replicaLagMonitor.isUsable()).isTrue();
+        mvc.perform(get("/products/{id}", product.getProductId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.productName").value("복제본"));
+    }
+
+    @Test
+    @DisplayName("복제 지연이 max-lag 를 넘으면 조회를 쓰기 DB 로 보내고, 지연이 풀리면 읽기 DB 로 복귀")
+    void t2() throws Exception {
+        replica.update("UPDATE product SET product_name = '복제본' WHERE product_id = ?", product.getProductId());
+
+        setReplicaLag(10);
+        assertThat(replicaLagMonitor.isUsable()).isFalse();
+        mvc.perform(get("/products/{id}", product.getProductId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.productName").value("커피1"));
+
+        setReplicaLag(1);
+        assertThat(replicaLagMonitor.isUsable()).isTrue();
+        mvc.perform(get("/products/{id}", product.getProductId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.productName").value("복제본"));
+    }
+
+    @Test
+    @DisplayName("주문 직후 본인 주문 목록 / 단건 조회는 복제 전이어도 쓰기 DB 에서 읽음")
+    void t3() throws Exception {
+        long orderId = writeOrder("ryw@example.com");
+
+        // 읽기 DB 에는 아직 주문이 없다
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM \"order\"", Long.class)).isZero();
+
+        mvc.perform(get("/orders/lists").param("email", "ryw@example.com").with(loginAs("ryw@example.com", UserRole.USER)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orders.length()").value(1))
+                .andExpect(jsonPath("$.data.orders[0].orderId").value(orderId));
+        mvc.perform(get("/orders/lists/{orderId}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderId").value(orderId));
+    }
+
+    @Test
+    @DisplayName("읽기 DB 로 보내지 않는 것은 주문한 이메일의 조회뿐")
+    void t4() throws Exception {
+        writeOrder("writer@example.com");
+        replicate();
+        setReplicaLag(0);
+        // 읽기 DB 에서만 주문자를 바꿔 어느 DB 에서 읽었는지 구분
+        replica.update("UPDATE \"order\" SET email = 'reader@example.com'");
+
+        // 두 이메일을 모두 조회할 수 있는 관리자로 확인
+        mvc.perform(get("/orders/lists").param("email", "reader@example.com").with(loginAs("admin@example.com", UserRole.ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orders.length()").value(1));
+        mvc.perform(get("/orders/lists").param("email", "writer@example.com").with(loginAs("admin@example.com", UserRole.ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orders.length()").value(1));
+    }
+
+    // 필터를 끈 테스트라 JWT 필터가 만들 principal 을 SecurityContext 에 직접 넣는다
+    private RequestPostProcessor loginAs(String email, UserRole role) {
+        return authentication(new UsernamePasswordAuthenticationToken(
+                new AuthUser(1, email, role), null, List.of(new SimpleGrantedAuthority(role.name()))));
+    }
+}
@@ -0,0 +1,145 @@
+package com.back.teamcoffee.global.datasource;
+
+import com.back.BackendApplication;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import com.back.teamcoffee.global.security.AuthUser;
+import com.back.teamcoffee.global.security.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기본(플랫폼 스레드) 모드와 virtual 프로필(가상 스레드 + 커넥션 허가 제한)의 처리량 비교 (./gradlew perfTest)
+// 두 모드 모두 커넥션 풀 3개, connection-timeout 1초로 동시 요청이 풀을 크게 넘도록 구성
+@Slf4j
+@Tag("perf")
+class VirtualThreadLoadTest {
+    private static final int CONCURRENCY = 2_000;
+    private static final int REQUESTS_PER_CLIENT = 5;
+    private static final int SEED_ORDERS = 2_000;
+
+    @Test
+    @DisplayName("virtual 모드는 풀을 초과하는 동시 요청을 타임아웃 없이 처리")
+    void t1() throws Exception {
+        LoadResult platform = runLoad("platform", false);
+        LoadResult virtual = runLoad("virtual", true);
+
+        log.info("{}", platform);
+        log.info("{}", virtual);
+
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.succeeded()).isEqualTo(CONCURRENCY * REQUESTS_PER_CLIENT);
+    }
+
+    private LoadResult runLoad(String mode, boolean virtualThreads) throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=" + (virtualThreads ? "test,virtual" : "test"),
+                "--spring.datasource.url=jdbc:h2:mem:load_" + mode,
+                "--spring.datasource.hikari.maximum-pool-size=3",
+                "--spring.datasource.hikari.connection-timeout=1000",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.back.teamcoffee=WARN",
+                // 로그 레벨 설정은 JVM 전체에 적용되므로 결과 로그는 남긴다
+                "--logging.level." + VirtualThreadLoadTest.class.getName() + "=INFO",
+                "--server.port=0",
+                "--server.tomcat.accept-count=" + CONCURRENCY,
+                "--server.tomcat.max-connections=" + (CONCURRENCY * 2),
+                "--app.admin.email=admin@email.com",
+                "--app.admin.name=admin",
+                "--app.admin.password=admin"
+        ));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .run(args.toArray(String[]::new))) {
+            context.getBean(TransactionTemplate.class)
+                    .executeWithoutResult(status -> seed(context.getBean(JdbcTemplate.class)));
+            int port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+            URI uri = URI.create("http://localhost:" + port + "/orders/lists?email=load@example.com&size=20");
+            // 주문 내역은 본인만 조회할 수 있으므로 주문자의 access token 을 쿠키로 보낸다
+            int userId = context.getBean(JdbcTemplate.class)
+                    .queryForObject("SELECT id FROM users WHERE email = 'load@example.com'", Integer.class);
+            String accessToken = context.getBean(JwtTokenProvider.class)
+                    .createToken(new AuthUser(userId, "load@example.com", UserRole.USER));
+
+            AtomicInteger succeeded = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            long start = System.nanoTime();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < CONCURRENCY; i++) {
+                    futures.add(clients.submit(() -> {
+                        for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                            try {
+                                HttpResponse<Void> response = client.send(
+                                        HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(2))
+                                                .header("Cookie", "AccessToken=" + accessToken).GET().build(),
+                                        HttpResponse.BodyHandlers.discarding());
+                                (response.statusCode() == 200 ? succeeded : failures).incrementAndGet();
+                            } catch (Exception e) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            return new LoadResult(mode, succeeded.get(), failures.get(), elapsedMs);
+        }
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO users (name, email, address, password, created_at, role)
+                VALUES ('load', 'load@example.com', '서울시 강남구', 'password', ?, 'USER')
+                """, Timestamp.valueOf(LocalDateTime.now()));
+        List<Object[]> orders = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= SEED_ORDERS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(i));
+            orders.add(new Object[]{1_000_000_000L + i, "", 1, "원두 외 0개", 18000, "서울시 강남구",
+                    createdAt, createdAt, false, "주문 접수", 0, "load@example.com"});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO "order" (order_id, user_id, order_count, product_name, total_price, address,
+                                     created_at, modified_at, delivery_status, order_status, product_id, email)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, orders);
+    }
+
+    private record LoadResult(String mode, int succeeded, int failures, long elapsedMs) {
+        @Override
+        public String toString() {
+            double throughput = succeeded * 1000.0 / Math.max(elapsedMs, 1);
+            return "%s: ok=%d failed=%d elapsed=%dms throughput=%.1f req/s".formatted(mode, succeeded, failures, elapsedMs, throughput);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.back.teamcoffee.global.metrics;
+
+import com.back.teamcoffee.domain.product.entity.Product;
+import com.back.teamcoffee.domain.product.repository.ProductRepository;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@Transactional
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        productRepository.save(new Product("커피1", 4000, "커피콩", 0, "img.png", 10, LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("상품 목록 요청 후 서비스 타이머, 요청별 SQL 수, 커넥션 풀 게이지가 노출됨")
+    void t1() throws Exception {
+        mvc.perform(get("/products"))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/actuator/prometheus").with(user("admin").authorities(new SimpleGrantedAuthority(UserRole.ADMIN.name()))))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("teamcoffee_service_seconds_count{"),
+                        containsString("method=\"getProductListJson\""),
+                        containsString("hibernate_request_statements_count{"),
+                        containsString("uri=\"/products\""),
+                        containsString("hibernate_request_entity_loads_count{"),
+                        containsString("hikaricp_connections_active")
+                )));
+    }
+
+    @Test
+    @DisplayName("메트릭 수집을 포함한 actuator 엔드포인트는 관리자만 접근 가능")
+    void t2() throws Exception {
+        mvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+        mvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mvc.perform(get("/actuator/prometheus").with(user("user").authorities(new SimpleGrantedAuthority(UserRole.USER.name()))))
+                .andExpect(status().isForbidden());
+    }
+}
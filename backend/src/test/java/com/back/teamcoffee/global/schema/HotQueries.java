@@ -0,0 +1,104 @@
+package com.back.teamcoffee.global.schema;
+
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.order.orderItem.repository.OrderItemRepository;
+import com.back.teamcoffee.domain.sales.repository.DailyProductSalesRepository;
+import com.back.teamcoffee.domain.sales.repository.SalesOutboxRepository;
+import com.back.teamcoffee.domain.user.repository.UserRepository;
+import com.back.teamcoffee.domain.wishlist.repository.WishListRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+// 주요 조회를 실제 리포지토리 메서드로 호출하고, 그때 Hibernate 가 실행한 SQL 을 모은다 (실행 계획은 각 DB 테스트에서 확인)
+// 인덱스를 추가/삭제하거나 자주 쓰는 조회가 새로 생기면 여기에 호출을 추가한다
+final class HotQueries {
+
+    private static final String EMAIL = "user@example.com";
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 1, 1, 23, 59, 59);
+    private static final List<Long> ORDER_IDS = List.of(1L, 2L, 3L);
+
+    record HotQuery(String name, Runnable call) {
+    }
+
+    record CapturedQuery(String name, StatementRecorder.RecordedStatement statement) {
+    }
+
+    static List<HotQuery> all(OrderRepository orders, OrderItemRepository orderItems, WishListRepository wishLists,
+                              UserRepository users, SalesOutboxRepository salesOutbox,
+                              DailyProductSalesRepository dailyProductSales) {
+        return List.of(
+                new HotQuery("OrderRepository.findPageByEmail",
+                        () -> orders.findPageByEmail(EMAIL, PageRequest.of(0, 21))),
+                new HotQuery("OrderRepository.findPageByEmailAfter",
+                        () -> orders.findPageByEmailAfter(EMAIL, FROM.plusHours(12), 100L, PageRequest.of(0, 21))),
+                new HotQuery("OrderRepository.findAllWithItemsByOrderIdIn",
+                        () -> orders.findAllWithItemsByOrderIdIn(ORDER_IDS)),
+                new HotQuery("OrderRepository.findByCreatedAtBetweenWithItems",
+                        () -> orders.findByCreatedAtBetweenWithItems(FROM, TO)),
+                new HotQuery("OrderRepository.countByCreatedAtGreaterThanEqualAndCreatedAtLessThan",
+                        () -> orders.countByCreatedAtGreaterThanEqualAndCreatedAtLessThan(FROM, TO)),
+                new HotQuery("OrderRepository.streamShippingRows", () -> {
+                    try (Stream<?> rows = orders.streamShippingRows(FROM, TO)) {
+                        rows.forEach(row -> { });
+                    }
+                }),
+                new HotQuery("OrderRepository.streamShippingRowsByAddress", () -> {
+                    try (Stream<?> rows = orders.streamShippingRowsByAddress(FROM, TO)) {
+                        rows.forEach(row -> { });
+                    }
+                }),
+                new HotQuery("OrderRepository.modifyStatusByOrderIdIn",
+                        () -> orders.modifyStatusByOrderIdIn(ORDER_IDS, "배송중", true, FROM)),
+                new HotQuery("OrderRepository.findIdsModifiedByOrderIdIn",
+                        () -> orders.findIdsModifiedByOrderIdIn(ORDER_IDS, "배송중", FROM)),
+                new HotQuery("OrderRepository.modifyStatusByCreatedAtBetween",
+                        () -> orders.modifyStatusByCreatedAtBetween(FROM, TO, "배송중", true, FROM)),
+                new HotQuery("OrderRepository.findIdsModifiedByCreatedAtBetween",
+                        () -> orders.findIdsModifiedByCreatedAtBetween(FROM, TO, "배송중", FROM)),
+                new HotQuery("OrderItemRepository.sumSalesByProduct",
+                        () -> orderItems.sumSalesByProduct(FROM, TO)),
+                new HotQuery("WishListRepository.findDtosByEmail",
+                        () -> wishLists.findDtosByEmail(EMAIL)),
+                new HotQuery("WishListRepository.findDtoByEmailAndWishId",
+                        () -> wishLists.findDtoByEmailAndWishId(EMAIL, 1L)),
+                new HotQuery("WishListRepository.findByEmailAndWishId",
+                        () -> wishLists.findByEmailAndWishId(EMAIL, 1L)),
+                new HotQuery("WishListRepository.findByEmailAndProductId",
+                        () -> wishLists.findByEmailAndProductId(EMAIL, 1L)),
+                new HotQuery("WishListRepository.updateQuantity",
+                        () -> wishLists.updateQuantity(EMAIL, 1L, 2)),
+                new HotQuery("UserRepository.findByEmail",
+                        () -> users.findByEmail(EMAIL)),
+                new HotQuery("SalesOutboxRepository.deleteBySalesDate",
+                        () -> salesOutbox.deleteBySalesDate(FROM.toLocalDate())),
+                new HotQuery("DailyProductSalesRepository.findTopProducts",
+                        () -> dailyProductSales.findTopProducts(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), PageRequest.of(0, 10)))
+        );
+    }
+
+    // 호출마다 롤백되는 트랜잭션 안에서 실행하고 실행된 문장을 모은다 (SQL 을 하나도 내지 않은 호출은 목록이 잘못된 것)
+    static List<CapturedQuery> capture(List<HotQuery> queries, StatementRecorder recorder, TransactionTemplate transactionTemplate) {
+        return queries.stream()
+                .flatMap(query -> {
+                    List<StatementRecorder.RecordedStatement> statements = recorder.record(() ->
+                            transactionTemplate.executeWithoutResult(status -> {
+                                status.setRollbackOnly();
+                                query.call().run();
+                            }));
+                    if (statements.isEmpty()) {
+                        throw new IllegalStateException(query.name() + " 가 SQL 을 실행하지 않았습니다");
+                    }
+                    return statements.stream().map(statement -> new CapturedQuery(query.name(), statement));
+                })
+                .toList();
+    }
+
+    private HotQueries() {
+    }
+}
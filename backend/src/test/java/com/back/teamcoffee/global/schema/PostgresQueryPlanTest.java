@@ -0,0 +1,106 @@
+package com.back.teamcoffee.global.schema;
+
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.order.orderItem.repository.OrderItemRepository;
+import com.back.teamcoffee.domain.sales.repository.DailyProductSalesRepository;
+import com.back.teamcoffee.domain.sales.repository.SalesOutboxRepository;
+import com.back.teamcoffee.domain.user.repository.UserRepository;
+import com.back.teamcoffee.domain.wishlist.repository.WishListRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 운영과 같은 PostgreSQL 에 마이그레이션을 적용하고 ddl-auto: validate 로 기동한 뒤, 리포지토리 메서드가 실제로 실행한 SQL 의 실행 계획을 확인
+// 빈 테이블에서는 플래너가 항상 Seq Scan 을 고르므로 enable_seqscan 을 끄고 본다 (그래도 Seq Scan 이면 쓸 인덱스가 없는 것)
+// 로컬에서는 Docker 가 없으면 건너뛰지만 CI (환경 변수 CI 설정) 에서는 건너뛰지 않고 실패한다
+@ActiveProfiles("test")
+@SpringBootTest
+@Testcontainers
+@EnabledIf("dockerAvailableOrCi")
+@Import(StatementRecorderConfig.class)
+class PostgresQueryPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    static boolean dockerAvailableOrCi() {
+        return System.getenv("CI") != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @Autowired
+    @Qualifier("writeDataSource")
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private WishListRepository wishListRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SalesOutboxRepository salesOutboxRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Test
+    @DisplayName("주요 조회는 Seq Scan 을 하지 않는다")
+    void t1() throws Exception {
+        List<HotQueries.CapturedQuery> captured = HotQueries.capture(
+                HotQueries.all(orderRepository, orderItemRepository, wishListRepository, userRepository,
+                        salesOutboxRepository, dailyProductSalesRepository),
+                statementRecorder, transactionTemplate);
+
+        // SET LOCAL 은 이 트랜잭션에만 적용되므로 풀에 돌려준 커넥션에 설정이 남지 않는다
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL enable_seqscan = off");
+            for (HotQueries.CapturedQuery query : captured) {
+                String plan = query.statement().explain(connection);
+
+                assertThat(plan).as(query.name() + "\n" + query.statement().sql()).doesNotContain("Seq Scan");
+            }
+            connection.rollback();
+        }
+    }
+}
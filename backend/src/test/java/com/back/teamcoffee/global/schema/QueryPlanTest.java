@@ -0,0 +1,96 @@
+package com.back.teamcoffee.global.schema;
+
+import com.back.teamcoffee.domain.order.order.repository.OrderRepository;
+import com.back.teamcoffee.domain.order.orderItem.repository.OrderItemRepository;
+import com.back.teamcoffee.domain.sales.repository.DailyProductSalesRepository;
+import com.back.teamcoffee.domain.sales.repository.SalesOutboxRepository;
+import com.back.teamcoffee.domain.user.repository.UserRepository;
+import com.back.teamcoffee.domain.wishlist.repository.WishListRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Flyway 로 만든 H2 스키마에서 주요 조회가 인덱스를 타는지 확인 (H2 는 전체 스캔을 tableScan 으로 표시)
+// 손으로 옮긴 SQL 이 아니라 리포지토리 메서드가 실제로 실행한 SQL 과 바인딩 값으로 EXPLAIN 한다
+@ActiveProfiles("test")
+@SpringBootTest
+@Import(StatementRecorderConfig.class)
+class QueryPlanTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("writeDataSource")
+    private DataSource dataSource;
+
+    @Autowired
+    private StatementRecorder statementRecorder;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private WishListRepository wishListRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SalesOutboxRepository salesOutboxRepository;
+
+    @Autowired
+    private DailyProductSalesRepository dailyProductSalesRepository;
+
+    @Test
+    @DisplayName("주요 조회는 전체 테이블 스캔을 하지 않는다")
+    void t1() throws Exception {
+        List<HotQueries.CapturedQuery> captured = HotQueries.capture(
+                HotQueries.all(orderRepository, orderItemRepository, wishListRepository, userRepository,
+                        salesOutboxRepository, dailyProductSalesRepository),
+                statementRecorder, transactionTemplate);
+
+        try (Connection connection = dataSource.getConnection()) {
+            for (HotQueries.CapturedQuery query : captured) {
+                String plan = query.statement().explain(connection);
+
+                assertThat(plan).as(query.name() + "\n" + query.statement().sql()).doesNotContain("tableScan");
+            }
+            connection.rollback();
+        }
+    }
+
+    @Test
+    @DisplayName("위시리스트는 사용자당 같은 상품을 한 번만 담을 수 있다")
+    void t2() {
+        // 커밋하지 않고 롤백하므로 정리할 데이터가 남지 않는다
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.update("INSERT INTO product (product_id, product_name, price, order_count, stock) VALUES (-1, '원두', 1000, 0, 1)");
+            jdbcTemplate.update("INSERT INTO wish_list (product_id, email, quantity) VALUES (-1, 'unique@example.com', 1)");
+
+            assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO wish_list (product_id, email, quantity) VALUES (-1, 'unique@example.com', 2)"))
+                    .isInstanceOf(DuplicateKeyException.class);
+        });
+    }
+}
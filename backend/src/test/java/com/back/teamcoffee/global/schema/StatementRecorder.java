@@ -0,0 +1,111 @@
+package com.back.teamcoffee.global.schema;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+// Hibernate 가 실제로 실행한 SELECT/UPDATE/DELETE 를 바인딩 값과 함께 기록 (StatementInspector 는 SQL 문자열만 넘겨주므로 JDBC 단에서 잡는다)
+// record 를 호출한 스레드의 문장만 기록한다 (백그라운드 작업의 SQL 은 섞이지 않게)
+final class StatementRecorder {
+
+    record Bind(Method setter, Object[] args) {
+    }
+
+    record RecordedStatement(String sql, List<Bind> binds) {
+
+        // 같은 SQL 에 같은 값을 바인딩해서 EXPLAIN (플랜 행을 줄바꿈으로 이어 붙인다)
+        String explain(Connection connection) throws Exception {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (Bind bind : binds) {
+                    invoke(statement, bind.setter(), bind.args());
+                }
+                StringJoiner plan = new StringJoiner("\n");
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.add(rs.getString(1));
+                    }
+                }
+                return plan.toString();
+            } catch (Throwable e) {
+                throw new IllegalStateException("EXPLAIN 실패: " + sql, e);
+            }
+        }
+    }
+
+    private final ThreadLocal<List<RecordedStatement>> recording = new ThreadLocal<>();
+
+    List<RecordedStatement> record(Runnable call) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            call.run();
+        } finally {
+            recording.remove();
+        }
+        return statements;
+    }
+
+    DataSource wrap(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(
+                        Connection.class.getClassLoader(),
+                        new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            Object result = invoke(connection, method, args);
+                            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                                return track(statement, (String) args[0]);
+                            }
+                            return result;
+                        });
+            }
+        };
+    }
+
+    private PreparedStatement track(PreparedStatement statement, String sql) {
+        List<Bind> binds = new ArrayList<>();
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    // setFetchSize 같은 Statement 설정은 빼고 파라미터 바인딩만 모은다
+                    if (method.getDeclaringClass() == PreparedStatement.class && method.getName().startsWith("set")) {
+                        binds.add(new Bind(method, args.clone()));
+                    } else if (method.getName().equals("clearParameters")) {
+                        binds.clear();
+                    } else if (method.getName().startsWith("execute") && (args == null || args.length == 0)) {
+                        List<RecordedStatement> statements = recording.get();
+                        if (statements != null && isExplainable(sql)) {
+                            statements.add(new RecordedStatement(sql, List.copyOf(binds)));
+                        }
+                    }
+                    return invoke(statement, method, args);
+                });
+    }
+
+    private static boolean isExplainable(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("update") || head.startsWith("delete") || head.startsWith("with");
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
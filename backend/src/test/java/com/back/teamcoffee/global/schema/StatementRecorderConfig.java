@@ -0,0 +1,29 @@
+package com.back.teamcoffee.global.schema;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+// 쓰기/읽기 커넥션 풀을 모두 StatementRecorder 로 감싼다
+@TestConfiguration
+class StatementRecorderConfig {
+
+    @Bean
+    static StatementRecorder statementRecorder() {
+        return new StatementRecorder();
+    }
+
+    @Bean
+    static BeanPostProcessor statementRecordingPostProcessor(StatementRecorder recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    return recorder.wrap(hikari);
+                }
+                return bean;
+            }
+        };
+    }
+}
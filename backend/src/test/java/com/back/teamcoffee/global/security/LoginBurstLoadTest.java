@@ -0,0 +1,163 @@
+package com.back.teamcoffee.global.security;
+
+import com.back.BackendApplication;
+import com.back.teamcoffee.domain.user.entity.User;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import com.back.teamcoffee.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로그인 폭주 중 주문 조회 지연 비교 (./gradlew perfTest)
+// request-thread: 해시 풀을 요청 스레드 수만큼 열어 예전처럼 모든 요청 스레드가 동시에 BCrypt 를 돌리는 상황
+// bounded: 기본 설정 (해시 스레드 2개 + 대기열, 넘치면 503)
+@Slf4j
+@Tag("perf")
+class LoginBurstLoadTest {
+    private static final int LOGIN_CLIENTS = 200;
+    private static final Duration BURST = Duration.ofSeconds(10);
+    private static final String EMAIL = "burst@example.com";
+    private static final String PASSWORD = "password";
+
+    @Test
+    @DisplayName("해시 풀을 제한하면 로그인 폭주 중에도 주문 조회 p99 가 유지된다")
+    void t1() throws Exception {
+        BurstResult unbounded = runBurst("request-thread", 200, 10_000);
+        BurstResult bounded = runBurst("bounded", 2, 64);
+
+        log.info("{}", unbounded);
+        log.info("{}", bounded);
+
+        assertThat(bounded.orderFailures()).isZero();
+        assertThat(bounded.logins()).isPositive();
+        assertThat(bounded.orderP99Ms()).isLessThan(unbounded.orderP99Ms());
+    }
+
+    private BurstResult runBurst(String mode, int hashingThreads, int queueCapacity) throws Exception {
+        List<String> args = List.of(
+                "--spring.profiles.active=test",
+                "--spring.datasource.url=jdbc:h2:mem:login_" + mode,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.back.teamcoffee=WARN",
+                // 로그 레벨 설정은 JVM 전체에 적용되므로 결과 로그는 남긴다
+                "--logging.level." + LoginBurstLoadTest.class.getName() + "=INFO",
+                "--server.port=0",
+                "--app.security.hashing.threads=" + hashingThreads,
+                "--app.security.hashing.queue-capacity=" + queueCapacity,
+                "--app.admin.email=admin@email.com",
+                "--app.admin.name=admin",
+                "--app.admin.password=admin"
+        );
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .run(args.toArray(String[]::new))) {
+            User user = context.getBean(UserRepository.class).save(User.builder()
+                    .email(EMAIL)
+                    .password(context.getBean(PasswordEncoder.class).encode(PASSWORD))
+                    .name("burst")
+                    .address("서울시 강남구")
+                    .role(UserRole.USER)
+                    .build());
+            int port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+            URI loginUri = URI.create("http://localhost:" + port + "/users/login");
+            URI ordersUri = URI.create("http://localhost:" + port + "/orders/lists?email=" + EMAIL + "&size=20");
+            // 주문 내역은 본인만 조회할 수 있으므로 access token 을 쿠키로 보낸다 (토큰 검증은 BCrypt 를 거치지 않는다)
+            String accessToken = context.getBean(JwtTokenProvider.class)
+                    .createToken(new AuthUser(user.getId(), EMAIL, UserRole.USER));
+            String loginBody = "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}";
+
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+            AtomicInteger logins = new AtomicInteger();
+            AtomicInteger rejectedLogins = new AtomicInteger();
+            AtomicInteger orderFailures = new AtomicInteger();
+            List<Long> orderLatenciesNanos = Collections.synchronizedList(new ArrayList<>());
+            long deadline = System.nanoTime() + BURST.toNanos();
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < LOGIN_CLIENTS; i++) {
+                    futures.add(clients.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            try {
+                                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(loginUri)
+                                                .timeout(Duration.ofMinutes(1))
+                                                .header("Content-Type", "application/json")
+                                                .POST(HttpRequest.BodyPublishers.ofString(loginBody))
+                                                .build(),
+                                        HttpResponse.BodyHandlers.discarding());
+                                (response.statusCode() == 200 ? logins : rejectedLogins).incrementAndGet();
+                            } catch (Exception e) {
+                                rejectedLogins.incrementAndGet();
+                            }
+                        }
+                    }));
+                }
+                // 주문 조회는 한 클라이언트가 순차로 보내 지연만 잰다
+                futures.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(
+                                    HttpRequest.newBuilder(ordersUri).timeout(Duration.ofMinutes(1))
+                                            .header("Cookie", "AccessToken=" + accessToken).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                orderFailures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            orderFailures.incrementAndGet();
+                        }
+                        orderLatenciesNanos.add(System.nanoTime() - start);
+                    }
+                }));
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            return new BurstResult(mode, logins.get(), rejectedLogins.get(), orderFailures.get(),
+                    percentileMs(orderLatenciesNanos, 0.5), percentileMs(orderLatenciesNanos, 0.99));
+        }
+    }
+
+    private static double percentileMs(List<Long> latenciesNanos, double percentile) {
+        List<Long> sorted = new ArrayList<>(latenciesNanos);
+        Collections.sort(sorted);
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(index, 0)) / 1_000_000.0;
+    }
+
+    private record BurstResult(String mode, int logins, int rejectedLogins, int orderFailures, double orderP50Ms, double orderP99Ms) {
+        @Override
+        public String toString() {
+            double loginsPerSec = logins / (double) BURST.toSeconds();
+            return "%s: logins=%d (%.1f/s) rejected=%d order p50=%.1fms p99=%.1fms orderFailures=%d"
+                    .formatted(mode, logins, loginsPerSec, rejectedLogins, orderP50Ms, orderP99Ms, orderFailures);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.back.teamcoffee.global.security;
+
+import com.back.teamcoffee.domain.user.entity.User;
+import com.back.teamcoffee.domain.user.entity.UserRole;
+import com.back.teamcoffee.domain.user.repository.UserRepository;
+import com.back.teamcoffee.global.exception.PasswordHashingBusyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Basic 인증 요청이 실제로 필터를 거쳐야 하므로 addFilters 를 끄지 않는다
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class PasswordHashingTest {
+    private static final String EMAIL = "basic@example.com";
+    private static final String PASSWORD = "basicpassword";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email(EMAIL)
+                .password(passwordEncoder.encode(PASSWORD))
+                .name("basicuser")
+                .address("서울시 강남구")
+                .role(UserRole.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.delete(user);
+    }
+
+    private long hashCount() {
+        return meterRegistry.get("security.password.hashing").timer().count();
+    }
+
+    @Test
+    @DisplayName("Basic 인증은 처음 한 번만 BCrypt 로 검증하고 이후에는 캐시를 쓴다")
+    void t1() throws Exception {
+        long before = hashCount();
+
+        mvc.perform(get("/api/v1/wishlists/" + EMAIL).with(httpBasic(EMAIL, PASSWORD)))
+                .andExpect(status().isOk());
+        long afterFirst = hashCount();
+        mvc.perform(get("/api/v1/wishlists/" + EMAIL).with(httpBasic(EMAIL, PASSWORD)))
+                .andExpect(status().isOk());
+
+        assertThat(afterFirst - before).isEqualTo(1);
+        assertThat(hashCount()).isEqualTo(afterFirst);
+    }
+
+    @Test
+    @DisplayName("틀린 비밀번호는 캐시하지 않고 매번 검증한다")
+    void t2() throws Exception {
+        mvc.perform(get("/api/v1/wishlists/" + EMAIL).with(httpBasic(EMAIL, PASSWORD)))
+                .andExpect(status().isOk());
+
+        for (int i = 0; i < 2; i++) {
+            long before = hashCount();
+            mvc.perform(get("/api/v1/wishlists/" + EMAIL).with(httpBasic(EMAIL, "wrongpassword")))
+                    .andExpect(status().isUnauthorized());
+            assertThat(hashCount()).isGreaterThan(before);
+        }
+    }
+
+    @Test
+    @DisplayName("비밀번호가 바뀌면 캐시된 자격 증명은 더 이상 통과하지 않는다")
+    void t3() throws Exception {
+        mvc.perform(get("/api/v1/wishlists/" + EMAIL).with(httpBasic(EMAIL, PASSWORD)))
+                .andExpect(status().isOk());
+
+        user.setPassword(passwordEncoder.encode("changedpassword"));
+        userRepository.save(user);
+
+        mvc.perform(get("/api/v1/wishlists/" + EMAIL).with(httpBasic(EMAIL, PASSWORD)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("해시 풀과 대기열이 가득 차면 기다리지 않고 503")
+    void t4() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        OffloadingPasswordEncoder encoder = new OffloadingPasswordEncoder(blocking, 1, 1, Duration.ofSeconds(5));
+        try {
+            // 스레드 1개 실행 중 + 대기열 1개
+            CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("a", "a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("b", "b"));
+            Thread.sleep(200);
+
+            assertThatThrownBy(() -> encoder.matches("c", "c"))
+                    .isInstanceOf(PasswordHashingBusyException.class);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("해시 풀이 가득 차 Basic 인증을 검증하지 못하면 401 이 아니라 503")
+    void t5() throws Exception {
+        PasswordEncoder busy = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new PasswordHashingBusyException();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                throw new PasswordHashingBusyException();
+            }
+        };
+        CachingBasicAuthenticationProvider provider =
+                new CachingBasicAuthenticationProvider(userDetailsService, busy, Duration.ofSeconds(60), 10);
+
+        PasswordHashingBusyAuthenticationException exception = catchThrowableOfType(
+                PasswordHashingBusyAuthenticationException.class,
+                () -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD)));
+        assertThat(exception).isNotNull();
+        // 없는 사용자의 더미 검증에서 막혀도 같은 예외
+        assertThatThrownBy(() -> provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("nobody@example.com", PASSWORD)))
+                .isInstanceOf(PasswordHashingBusyAuthenticationException.class);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new BasicAuthEntryPoint(objectMapper).commence(new MockHttpServletRequest(), response, exception);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("WWW-Authenticate")).isNull();
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("503-AUTH-BUSY");
+    }
+}
@@ -112,7 +112,7 @@ export default function AdminOrdersPage() {
       // TODO: 전체 주문 조회 API 필요, 임시로 관리자 이메일로 조회
       const response = await orderApi.getOrdersByEmail(user?.email || '')
       if (response.resultCode === '200-OK') {
-        setAllOrders(response.data)
+        setAllOrders(response.data.orders)
       }
     } catch (error) {
       console.error('전체 주문 조회 에러:', error)
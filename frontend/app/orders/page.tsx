@@ -13,6 +13,7 @@ import { useRouter } from "next/navigation"
 import { useToast } from "@/hooks/use-toast"
 import { orderApi } from "@/lib/api/orders"
 import type { Order, OrderItem } from "@/lib/types"
+import { resolveImageUrl } from "@/lib/api/client"
 
 // 주문 상태에 따른 색상과 아이콘
 const getStatusDisplay = (status: string) => {
@@ -90,7 +91,7 @@ export default function OrdersPage() {
         
         if (response.resultCode === 'SUCCESS' || response.resultCode === '200-OK' || response.resultCode === 'S-1') {
           // 주문 데이터 검증 및 기본값 설정
-          const ordersData = response.data || []
+          const ordersData = response.data?.orders || []
           const validatedOrders = ordersData.map((order: any) => {
             // 각 필드를 명시적으로 검증
             return {
@@ -157,7 +158,7 @@ export default function OrdersPage() {
         // 주문 목록 새로고침
         const refreshResponse = await orderApi.getMyOrders(user?.email || '')
         if (refreshResponse.resultCode === 'SUCCESS' || refreshResponse.resultCode === '200-OK') {
-          setOrders(refreshResponse.data)
+          setOrders(refreshResponse.data.orders)
         }
       }
     } catch (error) {
@@ -309,7 +310,7 @@ export default function OrdersPage() {
                               {order.items && order.items.length > 0 ? order.items.map((item) => item ? (
                                 <div key={item.orderItemId} className="flex items-center gap-4 bg-white p-4 rounded-lg">
                                   <Image
-                                    src={item.productImage || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=100&q=80"}
+                                    src={resolveImageUrl(item.productImage) || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=100&q=80"}
                                     alt={item.productName}
                                     width={60}
                                     height={60}
@@ -26,6 +26,7 @@ import { useAuth } from "@/contexts/AuthContext"
 import gsap from 'gsap'
 import { ScrollTrigger } from 'gsap/ScrollTrigger'
 import { VideoBackground } from "@/components/VideoBackground"
+import { resolveImageUrl } from "@/lib/api/client"
 
 gsap.registerPlugin(ScrollTrigger)
 
@@ -167,7 +168,7 @@ export default function HomePage() {
                       </CardItem>
                       <CardItem translateZ="100" className="w-full mt-4">
                         <Image
-                          src={product.productImage || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
+                          src={resolveImageUrl(product.productImage) || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
                           height="300"
                           width="300"
                           className="h-60 w-full object-cover rounded-xl group-hover/card:shadow-xl"
@@ -312,7 +313,7 @@ export default function HomePage() {
                     <div className="bg-white rounded-2xl overflow-hidden hover-lift shadow-lg hover:shadow-2xl transition-all border border-gray-100">
                       <div className="relative h-64 overflow-hidden">
                         <Image
-                          src={product.productImage || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
+                          src={resolveImageUrl(product.productImage) || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
                           alt={product.productName}
                           fill
                           className="object-cover transition-transform duration-700 group-hover:scale-110"
@@ -22,6 +22,7 @@ import { useWishlist } from "@/contexts/WishlistContext"
 import { useAuth } from "@/contexts/AuthContext"
 import { motion } from "framer-motion"
 import { useRouter } from "next/navigation"
+import { resolveImageUrl } from "@/lib/api/client"
 
 export default function ProductDetailPage() {
   const params = useParams()
@@ -203,7 +204,7 @@ export default function ProductDetailPage() {
             className="aspect-square rounded-2xl overflow-hidden shadow-2xl"
           >
             <Image
-              src={product.productImage || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=800&q=80"}
+              src={resolveImageUrl(product.productImage) || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=800&q=80"}
               alt={product.productName}
               width={600}
               height={600}
@@ -36,6 +36,7 @@ import { useWishlist } from "@/contexts/WishlistContext"
 import gsap from 'gsap'
 import { ScrollTrigger } from 'gsap/ScrollTrigger'
 import { VideoBackground } from "@/components/VideoBackground"
+import { resolveImageUrl } from "@/lib/api/client"
 
 gsap.registerPlugin(ScrollTrigger)
 
@@ -77,7 +78,7 @@ function ProductCard({ product, index, viewMode }: { product: Product; index: nu
           <div className="bg-white rounded-2xl p-6 hover:shadow-2xl transition-all duration-500 flex gap-6 border border-gray-200 hover:border-mediterranean-blue/50">
             <div className="relative w-48 h-48 rounded-xl overflow-hidden flex-shrink-0">
               <Image
-                src={product.productImage || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
+                src={resolveImageUrl(product.productImage) || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
                 alt={product.productName}
                 fill
                 className="object-cover transition-transform duration-700 group-hover:scale-110"
@@ -145,7 +146,7 @@ function ProductCard({ product, index, viewMode }: { product: Product; index: nu
         <div className="bg-white rounded-2xl overflow-hidden hover-lift h-full border border-gray-200 hover:border-mediterranean-blue/50 transition-all shadow-lg hover:shadow-2xl">
           <div className="relative h-64 overflow-hidden">
             <Image
-              src={product.productImage || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
+              src={resolveImageUrl(product.productImage) || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
               alt={product.productName}
               fill
               className="object-cover transition-transform duration-700 group-hover:scale-110"
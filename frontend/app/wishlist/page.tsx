@@ -14,6 +14,7 @@ import { useRouter } from "next/navigation"
 import { useToast } from "@/hooks/use-toast"
 import { orderApi } from "@/lib/api/orders"
 import type { OrderRequest } from "@/lib/types"
+import { resolveImageUrl } from "@/lib/api/client"
 
 export default function WishlistPage() {
   const router = useRouter()
@@ -134,7 +135,7 @@ export default function WishlistPage() {
                   >
                 <div className="relative">
                   <Image
-                    src={item.productImage || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
+                    src={resolveImageUrl(item.productImage) || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=400&q=80"}
                     alt={item.productName}
                     width={300}
                     height={300}
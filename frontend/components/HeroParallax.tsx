@@ -5,6 +5,7 @@ import { motion, useScroll, useTransform, useSpring } from "framer-motion"
 import Image from "next/image"
 import Link from "next/link"
 import type { Product } from "@/lib/types"
+import { resolveImageUrl } from "@/lib/api/client"
 
 export const HeroParallax = ({
   products,
@@ -131,7 +132,7 @@ export const ProductCard = ({
         className="block group-hover/product:shadow-2xl"
       >
         <Image
-          src={product.productImage || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=600&q=80"}
+          src={resolveImageUrl(product.productImage) || "https://images.unsplash.com/photo-1559056199-641a0ac8b55e?w=600&q=80"}
           height="600"
           width="600"
           className="object-cover object-center absolute h-full w-full inset-0 rounded-2xl"
@@ -78,3 +78,10 @@ export async function apiCall<T>(
     throw error
   }
 }
+
+// 백엔드가 내려주는 상대 경로 이미지 URL(/products/{id}/image?v=...)을 API 서버 기준 절대 URL로 변환
+export function resolveImageUrl(src?: string | null): string | undefined {
+  if (!src) return undefined
+  if (!src.startsWith('/')) return src
+  return `${API_BASE_URL.replace(/\/$/, '')}${src}`
+}
@@ -1,5 +1,5 @@
 import { apiCall } from './client'
-import type { ApiResponse, OrderRequest, Order } from '../types'
+import type { ApiResponse, CursorPage, OrderRequest, Order } from '../types'
 
 export const orderApi = {
   // 주문 생성
@@ -9,17 +9,17 @@ export const orderApi = {
       body: JSON.stringify(orderData),
     }),
   
-  // 이메일로 주문 내역 조회
-  getOrdersByEmail: (email: string) => 
-    apiCall<ApiResponse<Order[]>>(`/orders/lists?email=${email}`),
+  // 이메일로 주문 내역 조회 (최신순, cursor 로 다음 페이지)
+  getOrdersByEmail: (email: string, cursor?: string) => 
+    apiCall<ApiResponse<CursorPage<Order>>>(`/orders/lists?email=${email}${cursor ? `&cursor=${encodeURIComponent(cursor)}` : ''}`),
   
   // 주문 상세 조회
   getOrder: (orderId: number) => 
     apiCall<ApiResponse<Order>>(`/orders/lists/${orderId}`),
   
   // 내 주문 목록 조회 (현재 로그인한 사용자)
-  getMyOrders: (email: string) => 
-    apiCall<ApiResponse<Order[]>>(`/orders/lists?email=${email}`),
+  getMyOrders: (email: string, cursor?: string) => 
+    apiCall<ApiResponse<CursorPage<Order>>>(`/orders/lists?email=${email}${cursor ? `&cursor=${encodeURIComponent(cursor)}` : ''}`),
 
   // 주문 상태 변경
   updateOrderStatus: (orderId: number, status: string) => 
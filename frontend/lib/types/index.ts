@@ -5,6 +5,12 @@ export interface ApiResponse<T> {
   data: T
 }
 
+// 커서 기반 페이지 응답 (nextCursor 가 null 이면 마지막 페이지)
+export interface CursorPage<T> {
+  orders: T[]
+  nextCursor: string | null
+}
+
 // Product 관련 타입
 export interface Product {
   productId: number